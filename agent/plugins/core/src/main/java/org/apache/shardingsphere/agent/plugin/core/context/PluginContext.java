@@ -24,6 +24,7 @@ import org.apache.shardingsphere.agent.plugin.core.util.AgentReflectionUtils;
 import org.apache.shardingsphere.agent.plugin.core.util.ShardingSphereDriverUtils;
 import org.apache.shardingsphere.driver.jdbc.core.datasource.ShardingSphereDataSource;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.props.temporary.TemporaryConfigurationPropertyKey;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 
@@ -64,6 +65,19 @@ public final class PluginContext {
         return null == contextManager || contextManager.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.AGENT_PLUGINS_ENABLED);
     }
     
+    /**
+     * Check if the temporary property is enabled.
+     *
+     * @param key temporary property key
+     * @return true or false
+     */
+    public boolean isTemporaryPropertyEnabled(final TemporaryConfigurationPropertyKey key) {
+        if (null == contextManager) {
+            contextManager = getContextManager().orElse(null);
+        }
+        return null != contextManager && contextManager.getMetaDataContexts().getMetaData().getTemporaryProps().<Boolean>getValue(key);
+    }
+    
     /**
      * Get context manager.
      *
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice.stage;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.plugin.core.advice.AbstractInstanceMethodAdvice;
+import org.apache.shardingsphere.agent.plugin.core.context.PluginContext;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.infra.config.props.temporary.TemporaryConfigurationPropertyKey;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Abstract SQL stage latency histogram advice.
+ * 
+ * <p>Start time is kept in a reused thread local slot and observed into a histogram without labels, so no object is allocated while recording.
+ * Recording can be switched at runtime by temporary property {@code agent-sql-stage-latency-metrics-enabled}.</p>
+ */
+public abstract class AbstractSQLStageLatencyHistogramAdvice extends AbstractInstanceMethodAdvice {
+    
+    private static final long NOT_STARTED = -1L;
+    
+    private final MetricConfiguration config;
+    
+    private final ThreadLocal<long[]> startNanoTime = ThreadLocal.withInitial(() -> new long[]{NOT_STARTED});
+    
+    protected AbstractSQLStageLatencyHistogramAdvice(final String stage) {
+        config = new MetricConfiguration(String.format("sql_%s_latency_micros", stage), MetricCollectorType.HISTOGRAM,
+                String.format("SQL %s latency micros histogram", stage), Collections.singletonMap("buckets", getBuckets()));
+    }
+    
+    private Map<String, Object> getBuckets() {
+        Map<String, Object> result = new HashMap<>(4, 1F);
+        result.put("type", "exp");
+        result.put("start", 10);
+        result.put("factor", 2);
+        result.put("count", 18);
+        return result;
+    }
+    
+    @Override
+    public void beforeMethod(final TargetAdviceObject target, final Method method, final Object[] args, final String pluginType) {
+        if (PluginContext.getInstance().isTemporaryPropertyEnabled(TemporaryConfigurationPropertyKey.AGENT_SQL_STAGE_LATENCY_METRICS_ENABLED)) {
+            startNanoTime.get()[0] = System.nanoTime();
+        }
+    }
+    
+    @Override
+    public void afterMethod(final TargetAdviceObject target, final Method method, final Object[] args, final Object result, final String pluginType) {
+        long[] startNanoTimeSlot = startNanoTime.get();
+        if (NOT_STARTED == startNanoTimeSlot[0]) {
+            return;
+        }
+        long elapsedMicros = (System.nanoTime() - startNanoTimeSlot[0]) / 1000L;
+        startNanoTimeSlot[0] = NOT_STARTED;
+        MetricsCollectorRegistry.<HistogramMetricsCollector>get(config, pluginType).observe(elapsedMicros);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.sql.parser.core.database.parser.LLPredictionSQLCache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * LL prediction SQL cache exporter.
+ */
+public final class LLPredictionSQLCacheExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("parse_sql_ll_prediction_cache_lookups",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Lookups of LL prediction SQL cache. hit is SQL parsed with LL prediction mode directly; miss is SQL attempted with SLL prediction mode first",
+            Collections.singletonList("result"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        Collection<LLPredictionSQLCache> caches = LLPredictionSQLCache.getAllInstances();
+        result.addMetric(Collections.singletonList("hit"), caches.stream().mapToLong(LLPredictionSQLCache::getHitCount).sum());
+        result.addMetric(Collections.singletonList("miss"), caches.stream().mapToLong(LLPredictionSQLCache::getMissCount).sum());
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.TargetAdviceObjectFixture;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressUpdatedParameter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PipelineWrittenRowsCountAdviceTest {
+    
+    private final MetricConfiguration config = new MetricConfiguration("pipeline_written_rows_total", MetricCollectorType.COUNTER, null, Collections.singletonList("type"), Collections.emptyMap());
+    
+    private final PipelineWrittenRowsCountAdvice advice = new PipelineWrittenRowsCountAdvice();
+    
+    @AfterEach
+    void reset() {
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertCountWrittenRows() {
+        Object[] args = {"ack", Arrays.asList(createDataRecord(PipelineSQLOperationType.INSERT), createDataRecord(PipelineSQLOperationType.UPDATE),
+                createDataRecord(PipelineSQLOperationType.UPDATE), new FinishedRecord(new IngestPlaceholderPosition()))};
+        advice.afterMethod(new TargetAdviceObjectFixture(), mock(Method.class), args, new PipelineJobProgressUpdatedParameter(1), "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(config, "FIXTURE").toString(), is("INSERT=1, UPDATE=2"));
+    }
+    
+    @Test
+    void assertNotCountFailedWrittenRows() {
+        Object[] args = {"ack", Collections.singletonList(createDataRecord(PipelineSQLOperationType.INSERT))};
+        advice.afterMethod(new TargetAdviceObjectFixture(), mock(Method.class), args, null, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(config, "FIXTURE").toString(), is("0"));
+    }
+    
+    private DataRecord createDataRecord(final PipelineSQLOperationType type) {
+        return new DataRecord(type, "t_order", new IngestPlaceholderPosition(), 0);
+    }
+}
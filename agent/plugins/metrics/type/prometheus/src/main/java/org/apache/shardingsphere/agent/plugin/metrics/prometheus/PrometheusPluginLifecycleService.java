@@ -25,6 +25,7 @@ import org.apache.shardingsphere.agent.api.PluginConfiguration;
 import org.apache.shardingsphere.agent.plugin.core.config.validator.PluginConfigurationValidator;
 import org.apache.shardingsphere.agent.plugin.core.context.PluginContext;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.BuildInfoExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.LLPredictionSQLCacheExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCMetaDataInfoExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCStateExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyMetaDataInfoExporter;
@@ -65,6 +66,7 @@ public final class PrometheusPluginLifecycleService implements PluginLifecycleSe
     
     private void registerCollector(final boolean isCollectJVMInformation, final boolean isEnhancedForProxy) {
         new PrometheusMetricsExporter(new BuildInfoExporter()).register();
+        new PrometheusMetricsExporter(new LLPredictionSQLCacheExporter()).register();
         if (isEnhancedForProxy) {
             registerCollectorForProxy();
         } else {
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.LinkedList;
+
+/**
+ * Packet aggregation handler.
+ * 
+ * <p>Encoded packets smaller than aggregation threshold are copied into one pooled direct buffer, which is written when it is full or flushed.</p>
+ */
+@RequiredArgsConstructor
+public final class PacketAggregationHandler extends ChannelOutboundHandlerAdapter {
+    
+    private final int aggregationThreshold;
+    
+    private final Collection<ChannelPromise> pendingPromises = new LinkedList<>();
+    
+    private ByteBuf pendingBuffer;
+    
+    @Override
+    public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+        if (!(msg instanceof ByteBuf) || ((ByteBuf) msg).readableBytes() >= aggregationThreshold) {
+            writePending(ctx);
+            ctx.write(msg, promise);
+            return;
+        }
+        ByteBuf byteBuf = (ByteBuf) msg;
+        if (null != pendingBuffer && pendingBuffer.readableBytes() + byteBuf.readableBytes() > aggregationThreshold) {
+            writePending(ctx);
+        }
+        if (null == pendingBuffer) {
+            pendingBuffer = ctx.alloc().directBuffer(aggregationThreshold);
+        }
+        try {
+            pendingBuffer.writeBytes(byteBuf);
+        } finally {
+            byteBuf.release();
+        }
+        if (!promise.isVoid()) {
+            pendingPromises.add(promise);
+        }
+    }
+    
+    @Override
+    public void flush(final ChannelHandlerContext ctx) {
+        writePending(ctx);
+        ctx.flush();
+    }
+    
+    @Override
+    public void close(final ChannelHandlerContext ctx, final ChannelPromise promise) {
+        writePending(ctx);
+        ctx.close(promise);
+    }
+    
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext ctx) {
+        writePending(ctx);
+    }
+    
+    private void writePending(final ChannelHandlerContext ctx) {
+        if (null == pendingBuffer) {
+            return;
+        }
+        ChannelFuture future = ctx.write(pendingBuffer);
+        pendingBuffer = null;
+        if (pendingPromises.isEmpty()) {
+            return;
+        }
+        Collection<ChannelPromise> promises = new LinkedList<>(pendingPromises);
+        pendingPromises.clear();
+        future.addListener(completed -> {
+            for (ChannelPromise each : promises) {
+                if (completed.isSuccess()) {
+                    each.trySuccess();
+                } else {
+                    each.tryFailure(completed.cause());
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PacketAggregationHandlerTest {
+    
+    private final List<Object> writtenMessages = new LinkedList<>();
+    
+    private final EmbeddedChannel channel = new EmbeddedChannel(new ChannelOutboundHandlerAdapter() {
+        
+        @Override
+        public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+            writtenMessages.add(msg instanceof ByteBuf ? ((ByteBuf) msg).readableBytes() : msg);
+            ctx.write(msg, promise);
+        }
+    }, new PacketAggregationHandler(8));
+    
+    @Test
+    void assertWriteAggregatedUntilFlush() {
+        ChannelFuture firstFuture = channel.write(Unpooled.wrappedBuffer(new byte[]{1, 2}));
+        ChannelFuture secondFuture = channel.write(Unpooled.wrappedBuffer(new byte[]{3, 4, 5}));
+        assertTrue(writtenMessages.isEmpty());
+        channel.flush();
+        assertThat(writtenMessages, is(Collections.singletonList(5)));
+        assertTrue(firstFuture.isSuccess());
+        assertTrue(secondFuture.isSuccess());
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.readableBytes(), is(5));
+        assertThat(actual.getByte(4), is((byte) 5));
+        actual.release();
+    }
+    
+    @Test
+    void assertWriteWhenAggregationThresholdExceeded() {
+        channel.write(Unpooled.wrappedBuffer(new byte[6]));
+        channel.write(Unpooled.wrappedBuffer(new byte[6]));
+        assertThat(writtenMessages, is(Collections.singletonList(6)));
+        channel.flush();
+        assertThat(writtenMessages, is(Arrays.asList(6, 6)));
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    void assertWriteLargePacketDirectly() {
+        channel.write(Unpooled.wrappedBuffer(new byte[2]));
+        channel.write(Unpooled.wrappedBuffer(new byte[16]));
+        assertThat(writtenMessages, is(Arrays.asList(2, 16)));
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    void assertWriteOtherMessageInOrder() {
+        channel.write(Unpooled.wrappedBuffer(new byte[2]));
+        channel.write("foo");
+        assertThat(writtenMessages, is(Arrays.asList(2, "foo")));
+        channel.finishAndReleaseAll();
+    }
+}
@@ -51,6 +51,12 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
     
     private byte[] secretKey;
     
+    @EqualsAndHashCode.Exclude
+    private ThreadLocal<Cipher> encryptCipher;
+    
+    @EqualsAndHashCode.Exclude
+    private ThreadLocal<Cipher> decryptCipher;
+    
     private Properties getDefaultProperties() {
         Properties result = new Properties();
         result.setProperty(DIGEST_ALGORITHM_NAME, MessageDigestAlgorithms.SHA_1);
@@ -62,6 +68,9 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
         Properties properties = new Properties(metaData.getDefaultProps());
         properties.putAll(props);
         secretKey = getSecretKey(properties);
+        SecretKeySpec secretKeySpec = new SecretKeySpec(secretKey, getType());
+        encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE, secretKeySpec));
+        decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE, secretKeySpec));
     }
     
     private byte[] getSecretKey(final Properties props) {
@@ -77,7 +86,7 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
         if (null == plainValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
+        byte[] result = doFinal(encryptCipher, String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
         return Base64.getEncoder().encodeToString(result);
     }
     
@@ -87,13 +96,24 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
         if (null == cipherValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.getDecoder().decode(cipherValue.toString().trim()));
+        byte[] result = doFinal(decryptCipher, Base64.getDecoder().decode(cipherValue.toString().trim()));
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private Cipher getCipher(final int decryptMode) throws GeneralSecurityException {
+    private byte[] doFinal(final ThreadLocal<Cipher> cipher, final byte[] input) throws GeneralSecurityException {
+        try {
+            return cipher.get().doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            // Cipher is reused by the thread, so drop it in case the provider does not reset it after a failure
+            cipher.remove();
+            throw ex;
+        }
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int cipherMode, final SecretKeySpec secretKeySpec) {
         Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
+        result.init(cipherMode, secretKeySpec);
         return result;
     }
     
@@ -18,13 +18,11 @@
 package org.apache.shardingsphere.encrypt.merge.dql;
 
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.encrypt.exception.data.DecryptFailedException;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
-import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
-import org.apache.shardingsphere.infra.exception.core.external.sql.identifier.SQLExceptionIdentifier;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 
@@ -32,13 +30,15 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Merged result for encrypt.
  */
 @RequiredArgsConstructor
-public final class EncryptMergedResult implements MergedResult {
+public final class EncryptMergedResult implements MergedResult, AutoCloseable {
     
     private final ShardingSphereDatabase database;
     
@@ -48,6 +48,8 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private Map<Integer, EncryptColumnDecryptor> columnDecryptors;
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
@@ -55,26 +57,36 @@ public final class EncryptMergedResult implements MergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
-        if (!columnProjection.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        String originalTableName = columnProjection.get().getOriginalTable().getValue();
-        String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
-        if (!encryptRule.findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
-            return mergedResult.getValue(columnIndex, type);
+        if (null == columnDecryptors) {
+            columnDecryptors = createColumnDecryptors();
         }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        EncryptColumn encryptColumn = encryptRule.getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
-        String schemaName =
-                selectStatementContext.getTablesContext().getSchemaName().orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
-        try {
-            return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
-            // CHECKSTYLE:OFF
-        } catch (final Exception ex) {
-            // CHECKSTYLE:ON
-            throw new DecryptFailedException(String.valueOf(cipherValue), new SQLExceptionIdentifier(database.getName(), originalTableName, originalColumnName), ex);
+        EncryptColumnDecryptor columnDecryptor = columnDecryptors.get(columnIndex);
+        return null == columnDecryptor ? mergedResult.getValue(columnIndex, type) : columnDecryptor.decrypt(mergedResult.getValue(columnIndex, Object.class));
+    }
+    
+    private Map<Integer, EncryptColumnDecryptor> createColumnDecryptors() {
+        Map<Integer, EncryptColumnDecryptor> result = new HashMap<>();
+        String schemaName = null;
+        int columnCount = selectStatementContext.getProjectionsContext().getExpandProjections().size();
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
+            if (!columnProjection.isPresent()) {
+                continue;
+            }
+            String originalTableName = columnProjection.get().getOriginalTable().getValue();
+            String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
+            Optional<EncryptTable> encryptTable = encryptRule.findEncryptTable(originalTableName);
+            if (!encryptTable.isPresent() || !encryptTable.get().isEncryptColumn(originalColumnName)) {
+                continue;
+            }
+            if (null == schemaName) {
+                schemaName = selectStatementContext.getTablesContext().getSchemaName()
+                        .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
+            }
+            result.put(columnIndex, new EncryptColumnDecryptor(
+                    encryptTable.get().getEncryptColumn(originalColumnName).getCipher(), database.getName(), schemaName, originalTableName, originalColumnName));
         }
+        return result;
     }
     
     @Override
@@ -96,4 +108,11 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws Exception {
+        if (mergedResult instanceof AutoCloseable) {
+            ((AutoCloseable) mergedResult).close();
+        }
+    }
 }
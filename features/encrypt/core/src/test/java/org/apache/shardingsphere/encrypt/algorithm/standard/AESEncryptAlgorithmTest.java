@@ -93,6 +93,20 @@ class AESEncryptAlgorithmTest {
         assertThat(actual.toString(), is("test"));
     }
     
+    @Test
+    void assertEncryptAndDecryptRepeatedly() {
+        for (int i = 0; i < 3; i++) {
+            Object cipherValue = encryptAlgorithm.encrypt("test_" + i, mock(AlgorithmSQLContext.class));
+            assertThat(encryptAlgorithm.decrypt(cipherValue, mock(AlgorithmSQLContext.class)).toString(), is("test_" + i));
+        }
+    }
+    
+    @Test
+    void assertDecryptWithReinitializedKey() {
+        encryptAlgorithm.init(PropertiesBuilder.build(new Property("aes-key-value", "other")));
+        assertThat(encryptAlgorithm.decrypt(encryptAlgorithm.encrypt("test", mock(AlgorithmSQLContext.class)), mock(AlgorithmSQLContext.class)).toString(), is("test"));
+    }
+    
     @Test
     void assertDecryptNullValue() {
         assertNull(encryptAlgorithm.decrypt(null, mock(AlgorithmSQLContext.class)));
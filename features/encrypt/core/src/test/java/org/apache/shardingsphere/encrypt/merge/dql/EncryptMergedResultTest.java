@@ -18,7 +18,15 @@
 package org.apache.shardingsphere.encrypt.merge.dql;
 
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.junit.jupiter.api.Test;
@@ -29,13 +37,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,6 +72,28 @@ class EncryptMergedResultTest {
         assertFalse(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).next());
     }
     
+    @Test
+    void assertGetValue() throws SQLException {
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getProjectionsContext().getExpandProjections()).thenReturn(Arrays.asList(mock(Projection.class), mock(Projection.class)));
+        when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.of(new ColumnProjection("foo_tbl", "foo_col", null, mock(DatabaseType.class))));
+        when(selectStatementContext.findColumnProjection(2)).thenReturn(Optional.empty());
+        when(selectStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_schema"));
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt(eq("foo_cipher_value"), any(AlgorithmSQLContext.class))).thenReturn("foo_plain_value");
+        EncryptTable encryptTable = mock(EncryptTable.class);
+        when(encryptTable.isEncryptColumn("foo_col")).thenReturn(true);
+        when(encryptTable.getEncryptColumn("foo_col")).thenReturn(new EncryptColumn("foo_col", new CipherColumnItem("foo_col_cipher", encryptAlgorithm)));
+        when(encryptRule.findEncryptTable("foo_tbl")).thenReturn(Optional.of(encryptTable));
+        when(mergedResult.getValue(1, Object.class)).thenReturn("foo_cipher_value");
+        when(mergedResult.getValue(2, String.class)).thenReturn("bar_value");
+        EncryptMergedResult actual = new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("foo_plain_value"));
+        assertThat(actual.getValue(2, String.class), is("bar_value"));
+        assertThat(actual.getValue(1, String.class), is("foo_plain_value"));
+        verify(encryptRule).findEncryptTable("foo_tbl");
+    }
+    
     @Test
     void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
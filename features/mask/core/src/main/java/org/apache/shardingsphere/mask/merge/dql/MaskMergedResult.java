@@ -35,7 +35,7 @@ import java.util.Optional;
  * Merged result for mask.
  */
 @RequiredArgsConstructor
-public final class MaskMergedResult implements MergedResult {
+public final class MaskMergedResult implements MergedResult, AutoCloseable {
     
     private final MaskRule maskRule;
     
@@ -86,4 +86,11 @@ public final class MaskMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws Exception {
+        if (mergedResult instanceof AutoCloseable) {
+            ((AutoCloseable) mergedResult).close();
+        }
+    }
 }
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitial
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -45,11 +46,14 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private String algorithmExpression;
     
+    private InlineExpressionParser algorithmExpressionParser;
+    
     private boolean allowRangeQuery;
     
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
+        algorithmExpressionParser = InlineExpressionParserFactory.newInstance(algorithmExpression);
         allowRangeQuery = isAllowRangeQuery(props);
     }
     
@@ -71,7 +75,7 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         Map<String, Comparable<?>> map = new LinkedHashMap<>();
         map.put(columnName, shardingValue.getValue());
         try {
-            return InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateWithArgs(map);
+            return algorithmExpressionParser.evaluateWithArgs(map);
         } catch (final MissingMethodException ignored) {
             throw new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName);
         }
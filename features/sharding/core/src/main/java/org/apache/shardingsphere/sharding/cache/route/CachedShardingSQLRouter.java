@@ -71,17 +71,12 @@ public final class CachedShardingSQLRouter {
                 .flatMap(ShardingRouteCacheValue::getCachedRouteContext);
         RouteContext result = cachedResult.orElseGet(
                 () -> originSQLRouter.createRouteContext(queryContext, globalRuleMetaData, database, shardingCache.getShardingRule(), props, connectionContext));
-        if (!cachedResult.isPresent() && hitOneShardOnly(result)) {
+        if (!cachedResult.isPresent() && !result.getRouteUnits().isEmpty()) {
             shardingCache.getRouteCache().put(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams), new ShardingRouteCacheValue(result));
         }
         return Optional.of(result);
     }
     
-    private boolean hitOneShardOnly(final RouteContext routeContext) {
-        return 1 == routeContext.getRouteUnits().size() && 1 == routeContext.getRouteUnits().iterator().next().getTableMappers().size()
-                && 1 == routeContext.getOriginalDataNodes().size() && 1 == routeContext.getOriginalDataNodes().iterator().next().size();
-    }
-    
     @FunctionalInterface
     public interface OriginSQLRouter {
         
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 
 import java.util.Optional;
@@ -35,7 +36,8 @@ public final class ShardingRouteCache {
     }
     
     private Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> buildRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
-        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize());
+        Caffeine<ShardingRouteCacheKey, ShardingRouteCacheValue> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumWeight(cacheOptions.getMaximumSize())
+                .<ShardingRouteCacheKey, ShardingRouteCacheValue>weigher((key, value) -> value.getWeight()).recordStats();
         if (cacheOptions.isSoftValues()) {
             result.softValues();
         }
@@ -61,4 +63,22 @@ public final class ShardingRouteCache {
     public Optional<ShardingRouteCacheValue> get(final ShardingRouteCacheKey key) {
         return Optional.ofNullable(cache.getIfPresent(key));
     }
+    
+    /**
+     * Get cache statistics.
+     *
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    /**
+     * Get estimated count of cached route results.
+     *
+     * @return estimated count of cached route results
+     */
+    public long getEstimatedSize() {
+        return cache.estimatedSize();
+    }
 }
@@ -53,6 +53,22 @@ public final class ShardingRouteCacheValue {
         return cacheable ? Optional.of(deepCopyRouteContext()) : Optional.empty();
     }
     
+    /**
+     * Get weight of cached route context, which is the count of routed tables.
+     *
+     * @return weight
+     */
+    public int getWeight() {
+        if (!cacheable) {
+            return 1;
+        }
+        int result = 0;
+        for (RouteUnit each : cachedRouteContext.getRouteUnits()) {
+            result += Math.max(each.getTableMappers().size(), 1);
+        }
+        return Math.max(result, 1);
+    }
+    
     private RouteContext deepCopyRouteContext() {
         RouteContext result = new RouteContext();
         result.getOriginalDataNodes().addAll(deepCopyOriginalDataNodes());
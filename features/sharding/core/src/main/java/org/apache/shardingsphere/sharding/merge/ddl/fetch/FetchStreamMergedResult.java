@@ -134,7 +134,7 @@ public final class FetchStreamMergedResult extends StreamMergedResult {
     
     private boolean isEmptyOrderByValue(final OrderByValue orderByValue) {
         return orderByValue.getQueryResult() instanceof JDBCMemoryQueryResult && 0 == ((JDBCMemoryQueryResult) orderByValue.getQueryResult()).getRowCount()
-                && null == ((JDBCMemoryQueryResult) orderByValue.getQueryResult()).getCurrentRow();
+                && !((JDBCMemoryQueryResult) orderByValue.getQueryResult()).isOnRow();
     }
     
     private void addOrderedResultSetsToQueue(final List<FetchOrderByValueGroup> fetchOrderByValueGroups, final List<QueryResult> queryResults) {
@@ -177,7 +177,7 @@ public final class FetchStreamMergedResult extends StreamMergedResult {
         for (OrderByValue each : fetchOrderByValueGroup.getOrderByValues()) {
             if (each.getQueryResult() instanceof JDBCMemoryQueryResult) {
                 JDBCMemoryQueryResult queryResult = (JDBCMemoryQueryResult) each.getQueryResult();
-                result += null == queryResult.getCurrentRow() ? queryResult.getRowCount() : queryResult.getRowCount() + 1;
+                result += queryResult.isOnRow() ? queryResult.getRowCount() + 1 : queryResult.getRowCount();
             }
         }
         return result;
@@ -55,6 +55,14 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType protocolType;
     
+    private final int maxInMemoryGroupCount;
+    
+    private final boolean approximateDistinctCount;
+    
+    public ShardingDQLResultMerger(final DatabaseType protocolType) {
+        this(protocolType, 0, false);
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
@@ -118,8 +126,8 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
         return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
-                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
+                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema, approximateDistinctCount)
+                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema, maxInMemoryGroupCount, approximateDistinctCount);
     }
     
     private boolean isNeedProcessOrderBy(final SelectStatementContext selectStatementContext) {
@@ -0,0 +1,320 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Group by memory aggregator.
+ * 
+ * <p>
+ * Groups are aggregated in memory until the in-memory group count reaches the limitation. After that, rows of groups which are not in memory
+ * are sorted by group by values in batches of the limitation and spilled to local temporary files as sorted runs.
+ * When getting result rows, the spilled runs are merged group by group, the aggregated rows are sorted again in batches of the limitation,
+ * and all sorted batches are merged while the result rows are read. So at most about twice the limitation of rows are kept in memory.
+ * Sorted runs are merged at most 64 at a time, if there are more runs, they are merged into fewer and larger runs in multiple passes first.
+ * </p>
+ */
+public final class GroupByMemoryAggregator implements AutoCloseable {
+    
+    private static final int MAX_MERGE_RUN_COUNT = 64;
+    
+    private final Collection<OrderByItem> groupByItems;
+    
+    private final List<AggregationProjection> aggregationProjections;
+    
+    private final int columnCount;
+    
+    private final int maxInMemoryGroupCount;
+    
+    private final boolean approximateDistinctCount;
+    
+    private final Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024, 1F);
+    
+    private final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024, 1F);
+    
+    private final List<Object[]> spillBuffer = new ArrayList<>();
+    
+    private final Collection<GroupBySortedRun> runs = new LinkedList<>();
+    
+    private final Collection<GroupBySortedRun> createdRuns = new LinkedList<>();
+    
+    public GroupByMemoryAggregator(final SelectStatementContext selectStatementContext, final int columnCount, final int maxInMemoryGroupCount, final boolean approximateDistinctCount) {
+        groupByItems = selectStatementContext.getGroupByContext().getItems();
+        aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections();
+        this.columnCount = columnCount;
+        this.maxInMemoryGroupCount = maxInMemoryGroupCount;
+        this.approximateDistinctCount = approximateDistinctCount;
+    }
+    
+    /**
+     * Aggregate current row of query result.
+     *
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final QueryResult queryResult) throws SQLException {
+        GroupByValue groupByValue = new GroupByValue(queryResult, groupByItems);
+        if (!dataMap.containsKey(groupByValue)) {
+            if (maxInMemoryGroupCount > 0 && dataMap.size() >= maxInMemoryGroupCount) {
+                spill(new MemoryQueryResultRow(queryResult));
+                return;
+            }
+            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+            aggregationMap.put(groupByValue, createAggregationUnits());
+        }
+        Map<AggregationProjection, AggregationUnit> aggregationUnits = aggregationMap.get(groupByValue);
+        for (AggregationProjection each : aggregationProjections) {
+            aggregationUnits.get(each).merge(getAggregationValues(queryResult, each));
+        }
+    }
+    
+    private Map<AggregationProjection, AggregationUnit> createAggregationUnits() {
+        Map<AggregationProjection, AggregationUnit> result = new LinkedHashMap<>(aggregationProjections.size(), 1F);
+        for (AggregationProjection each : aggregationProjections) {
+            result.put(each, AggregationUnitFactory.create(each.getType(), each instanceof AggregationDistinctProjection, approximateDistinctCount));
+        }
+        return result;
+    }
+    
+    private List<Comparable<?>> getAggregationValues(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        List<Comparable<?>> result = new ArrayList<>(2);
+        if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            result.add(getAggregationValue(queryResult.getValue(aggregationProjection.getIndex(), Object.class)));
+        } else {
+            for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+                result.add(getAggregationValue(queryResult.getValue(each.getIndex(), Object.class)));
+            }
+        }
+        return result;
+    }
+    
+    private List<Comparable<?>> getAggregationValues(final MemoryQueryResultRow row, final AggregationProjection aggregationProjection) {
+        List<Comparable<?>> result = new ArrayList<>(2);
+        if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            result.add(getAggregationValue(row.getCell(aggregationProjection.getIndex())));
+        } else {
+            for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+                result.add(getAggregationValue(row.getCell(each.getIndex())));
+            }
+        }
+        return result;
+    }
+    
+    private Comparable<?> getAggregationValue(final Object value) {
+        ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", value));
+        return (Comparable<?>) value;
+    }
+    
+    private void spill(final MemoryQueryResultRow row) {
+        spillBuffer.add(getRowData(row));
+        if (spillBuffer.size() >= maxInMemoryGroupCount) {
+            spillBuffer.sort(this::compareGroupByValues);
+            runs.add(writeRun(spillBuffer.iterator()));
+            spillBuffer.clear();
+        }
+    }
+    
+    private Object[] getRowData(final MemoryQueryResultRow row) {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = row.getCell(i + 1);
+        }
+        return result;
+    }
+    
+    private GroupBySortedRun writeRun(final Iterator<Object[]> sortedRows) {
+        GroupBySortedRun result = new GroupBySortedRun(sortedRows, columnCount);
+        createdRuns.add(result);
+        return result;
+    }
+    
+    private List<Iterator<Object[]>> mergeRuns(final Collection<GroupBySortedRun> sortedRuns, final Comparator<Object[]> comparator, final int maxRunCount) {
+        LinkedList<Iterator<Object[]>> result = new LinkedList<>(sortedRuns);
+        while (result.size() > maxRunCount) {
+            int mergingRunCount = Math.min(MAX_MERGE_RUN_COUNT, result.size() - maxRunCount + 1);
+            List<Iterator<Object[]>> mergingRuns = new ArrayList<>(mergingRunCount);
+            while (mergingRuns.size() < mergingRunCount) {
+                mergingRuns.add(result.removeFirst());
+            }
+            result.addLast(writeRun(new GroupBySortedMergeIterator<>(mergingRuns, comparator)));
+        }
+        return result;
+    }
+    
+    private int compareGroupByValues(final Object[] row1, final Object[] row2) {
+        for (OrderByItem each : groupByItems) {
+            int result = compareGroupByValue(row1[each.getIndex() - 1], row2[each.getIndex() - 1]);
+            if (0 != result) {
+                return result;
+            }
+        }
+        return 0;
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private int compareGroupByValue(final Object value1, final Object value2) {
+        if (null == value1 || null == value2) {
+            return null == value1 ? (null == value2 ? 0 : -1) : 1;
+        }
+        ShardingSpherePreconditions.checkState(value1 instanceof Comparable, () -> new NotImplementComparableValueException("Group by", value1));
+        ShardingSpherePreconditions.checkState(value2 instanceof Comparable, () -> new NotImplementComparableValueException("Group by", value2));
+        if (value1.getClass() != value2.getClass()) {
+            return value1.getClass().getName().compareTo(value2.getClass().getName());
+        }
+        return ((Comparable) value1).compareTo(value2);
+    }
+    
+    /**
+     * Judge whether no row is aggregated.
+     *
+     * @return no row is aggregated or not
+     */
+    public boolean isEmpty() {
+        return dataMap.isEmpty() && spillBuffer.isEmpty() && runs.isEmpty();
+    }
+    
+    /**
+     * Get aggregated result rows.
+     *
+     * @param comparator comparator of result rows
+     * @return aggregated result rows in order of comparator
+     */
+    public Iterator<MemoryQueryResultRow> getResultRows(final Comparator<MemoryQueryResultRow> comparator) {
+        List<MemoryQueryResultRow> inMemoryRows = getInMemoryResultRows();
+        inMemoryRows.sort(comparator);
+        if (runs.isEmpty() && spillBuffer.isEmpty()) {
+            return inMemoryRows.iterator();
+        }
+        List<Iterator<MemoryQueryResultRow>> sortedRows = new LinkedList<>();
+        sortedRows.add(inMemoryRows.iterator());
+        Collection<GroupBySortedRun> resultRuns = new LinkedList<>();
+        List<MemoryQueryResultRow> sortBuffer = mergeSpilledRows(comparator, resultRuns);
+        sortBuffer.sort(comparator);
+        sortedRows.add(sortBuffer.iterator());
+        for (Iterator<Object[]> each : mergeRuns(resultRuns, (o1, o2) -> comparator.compare(new MemoryQueryResultRow(o1), new MemoryQueryResultRow(o2)), MAX_MERGE_RUN_COUNT - 2)) {
+            sortedRows.add(new SortedRunRowIterator(each));
+        }
+        return new GroupBySortedMergeIterator<>(sortedRows, comparator);
+    }
+    
+    private List<MemoryQueryResultRow> getInMemoryResultRows() {
+        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.size());
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            setAggregationResults(entry.getValue(), aggregationMap.get(entry.getKey()));
+            result.add(entry.getValue());
+        }
+        dataMap.clear();
+        aggregationMap.clear();
+        return result;
+    }
+    
+    private void setAggregationResults(final MemoryQueryResultRow row, final Map<AggregationProjection, AggregationUnit> aggregationUnits) {
+        for (AggregationProjection each : aggregationProjections) {
+            row.setCell(each.getIndex(), aggregationUnits.get(each).getResult());
+        }
+    }
+    
+    private List<MemoryQueryResultRow> mergeSpilledRows(final Comparator<MemoryQueryResultRow> comparator, final Collection<GroupBySortedRun> resultRuns) {
+        spillBuffer.sort(this::compareGroupByValues);
+        List<Iterator<Object[]>> spilledRuns = mergeRuns(runs, this::compareGroupByValues, MAX_MERGE_RUN_COUNT - 1);
+        spilledRuns.add(spillBuffer.iterator());
+        Iterator<Object[]> spilledRows = new GroupBySortedMergeIterator<>(spilledRuns, this::compareGroupByValues);
+        List<MemoryQueryResultRow> result = new ArrayList<>();
+        Object[] groupRowData = null;
+        MemoryQueryResultRow groupRow = null;
+        Map<AggregationProjection, AggregationUnit> aggregationUnits = null;
+        while (spilledRows.hasNext()) {
+            Object[] rowData = spilledRows.next();
+            if (null == groupRowData || 0 != compareGroupByValues(groupRowData, rowData)) {
+                if (null != groupRow) {
+                    setAggregationResults(groupRow, aggregationUnits);
+                    addResultRow(groupRow, comparator, result, resultRuns);
+                }
+                groupRowData = rowData;
+                groupRow = new MemoryQueryResultRow(rowData);
+                aggregationUnits = createAggregationUnits();
+            }
+            MemoryQueryResultRow row = new MemoryQueryResultRow(rowData);
+            for (AggregationProjection each : aggregationProjections) {
+                aggregationUnits.get(each).merge(getAggregationValues(row, each));
+            }
+        }
+        if (null != groupRow) {
+            setAggregationResults(groupRow, aggregationUnits);
+            addResultRow(groupRow, comparator, result, resultRuns);
+        }
+        spillBuffer.clear();
+        return result;
+    }
+    
+    private void addResultRow(final MemoryQueryResultRow row, final Comparator<MemoryQueryResultRow> comparator, final List<MemoryQueryResultRow> sortBuffer,
+                              final Collection<GroupBySortedRun> resultRuns) {
+        sortBuffer.add(row);
+        if (sortBuffer.size() >= maxInMemoryGroupCount) {
+            sortBuffer.sort(comparator);
+            resultRuns.add(writeRun(sortBuffer.stream().map(this::getRowData).iterator()));
+            sortBuffer.clear();
+        }
+    }
+    
+    @Override
+    public void close() {
+        createdRuns.forEach(GroupBySortedRun::close);
+    }
+    
+    private static final class SortedRunRowIterator implements Iterator<MemoryQueryResultRow> {
+        
+        private final Iterator<Object[]> run;
+        
+        SortedRunRowIterator(final Iterator<Object[]> run) {
+            this.run = run;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return run.hasNext();
+        }
+        
+        @Override
+        public MemoryQueryResultRow next() {
+            return new MemoryQueryResultRow(run.next());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.AllArgsConstructor;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Group by sorted merge iterator, which merges sorted iterators into one sorted iterator.
+ * 
+ * <p>Equal elements are returned in the order of the iterators.</p>
+ *
+ * @param <T> type of element
+ */
+final class GroupBySortedMergeIterator<T> implements Iterator<T> {
+    
+    private final Comparator<T> comparator;
+    
+    private final PriorityQueue<MergeSource<T>> sources;
+    
+    GroupBySortedMergeIterator(final List<Iterator<T>> iterators, final Comparator<T> comparator) {
+        this.comparator = comparator;
+        sources = new PriorityQueue<>(Math.max(1, iterators.size()), this::compare);
+        int index = 0;
+        for (Iterator<T> each : iterators) {
+            if (each.hasNext()) {
+                sources.add(new MergeSource<>(each, each.next(), index));
+            }
+            index++;
+        }
+    }
+    
+    private int compare(final MergeSource<T> o1, final MergeSource<T> o2) {
+        int result = comparator.compare(o1.current, o2.current);
+        return 0 == result ? Integer.compare(o1.index, o2.index) : result;
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return !sources.isEmpty();
+    }
+    
+    @Override
+    public T next() {
+        MergeSource<T> source = sources.poll();
+        if (null == source) {
+            throw new NoSuchElementException();
+        }
+        T result = source.current;
+        if (source.iterator.hasNext()) {
+            source.current = source.iterator.next();
+            sources.add(source);
+        }
+        return result;
+    }
+    
+    @AllArgsConstructor
+    private static final class MergeSource<T> {
+        
+        private final Iterator<T> iterator;
+        
+        private T current;
+        
+        private final int index;
+    }
+}
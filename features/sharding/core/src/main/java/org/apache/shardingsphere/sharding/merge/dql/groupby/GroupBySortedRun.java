@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.exception.generic.FileIOException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Group by sorted run.
+ * 
+ * <p>
+ * Sorted rows are written to a local temporary file and read back in order.
+ * The file is only opened for reading when the first row is read, so unread runs do not hold file handles, and it is removed once the run is closed.
+ * The run closes itself after the last row is read.
+ * </p>
+ */
+final class GroupBySortedRun implements Iterator<Object[]>, AutoCloseable {
+    
+    private final Path path;
+    
+    private final int columnCount;
+    
+    private final int rowCount;
+    
+    private DataInputStream input;
+    
+    private int readRowCount;
+    
+    private boolean closed;
+    
+    GroupBySortedRun(final Iterator<Object[]> sortedRows, final int columnCount) {
+        this.columnCount = columnCount;
+        path = createTempFile();
+        int writtenRowCount = 0;
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            while (sortedRows.hasNext()) {
+                GroupBySpillRowCodec.write(output, sortedRows.next());
+                writtenRowCount++;
+            }
+        } catch (final IOException ignored) {
+            close();
+            throw new FileIOException(path.toFile());
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            close();
+            throw ex;
+        }
+        rowCount = writtenRowCount;
+    }
+    
+    private static Path createTempFile() {
+        try {
+            return Files.createTempFile("shardingsphere-group-by-", ".run");
+        } catch (final IOException ignored) {
+            throw new FileIOException(new File(System.getProperty("java.io.tmpdir")));
+        }
+    }
+    
+    @Override
+    public boolean hasNext() {
+        if (!closed && readRowCount < rowCount) {
+            return true;
+        }
+        close();
+        return false;
+    }
+    
+    @Override
+    public Object[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            if (null == input) {
+                input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+            }
+            Object[] result = GroupBySpillRowCodec.read(input, columnCount);
+            readRowCount++;
+            return result;
+        } catch (final IOException ignored) {
+            close();
+            throw new FileIOException(path.toFile());
+        }
+    }
+    
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (null != input) {
+                input.close();
+            }
+            Files.deleteIfExists(path);
+        } catch (final IOException ignored) {
+        }
+    }
+}
@@ -44,16 +44,24 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private final SelectStatementContext selectStatementContext;
     
+    private final boolean approximateDistinctCount;
+    
     private final List<Object> currentRow;
     
     private List<?> currentGroupByValues;
     
     public GroupByStreamMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults,
                                      final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        this(labelAndIndexMap, queryResults, selectStatementContext, schema, false);
+    }
+    
+    public GroupByStreamMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults,
+                                     final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final boolean approximateDistinctCount) throws SQLException {
         super(queryResults, selectStatementContext, schema);
         this.selectStatementContext = selectStatementContext;
+        this.approximateDistinctCount = approximateDistinctCount;
         currentRow = new ArrayList<>(labelAndIndexMap.size());
-        currentGroupByValues = getOrderByValuesQueue().isEmpty()
+        currentGroupByValues = getOrderByValueLoserTree().isEmpty()
                 ? Collections.emptyList()
                 : new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues();
     }
@@ -61,7 +69,7 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     @Override
     public boolean next() throws SQLException {
         currentRow.clear();
-        if (getOrderByValuesQueue().isEmpty()) {
+        if (getOrderByValueLoserTree().isEmpty()) {
             return false;
         }
         if (isFirstNext()) {
@@ -76,8 +84,8 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     private boolean aggregateCurrentGroupByRowAndNext() throws SQLException {
         boolean result = false;
         boolean cachedRow = false;
-        Map<AggregationProjection, AggregationUnit> aggregationUnitMap = Maps.toMap(
-                selectStatementContext.getProjectionsContext().getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
+        Map<AggregationProjection, AggregationUnit> aggregationUnitMap = Maps.toMap(selectStatementContext.getProjectionsContext().getAggregationProjections(),
+                input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection, approximateDistinctCount));
         while (currentGroupByValues.equals(new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues())) {
             aggregate(aggregationUnitMap);
             if (!cachedRow) {
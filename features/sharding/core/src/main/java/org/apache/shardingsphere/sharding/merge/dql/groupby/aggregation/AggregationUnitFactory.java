@@ -37,6 +37,19 @@ public final class AggregationUnitFactory {
      * @throws UnsupportedSQLOperationException unsupported SQL operation exception
      */
     public static AggregationUnit create(final AggregationType type, final boolean isDistinct) {
+        return create(type, isDistinct, false);
+    }
+    
+    /**
+     * Create aggregation unit instance.
+     * 
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @param isApproximateDistinctCount whether estimate distinct count with HyperLogLog sketch instead of keeping all distinct values
+     * @return aggregation unit instance
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final boolean isApproximateDistinctCount) {
         switch (type) {
             case MAX:
                 return new ComparableAggregationUnit(false);
@@ -45,7 +58,10 @@ public final class AggregationUnitFactory {
             case SUM:
                 return isDistinct ? new DistinctSumAggregationUnit() : new AccumulationAggregationUnit();
             case COUNT:
-                return isDistinct ? new DistinctCountAggregationUnit() : new AccumulationAggregationUnit();
+                if (isDistinct) {
+                    return isApproximateDistinctCount ? new ApproximateDistinctCountAggregationUnit() : new DistinctCountAggregationUnit();
+                }
+                return new AccumulationAggregationUnit();
             case AVG:
                 return isDistinct ? new DistinctAverageAggregationUnit() : new AverageAggregationUnit();
             case BIT_XOR:
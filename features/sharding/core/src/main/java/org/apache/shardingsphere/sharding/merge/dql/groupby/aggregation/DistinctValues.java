@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * Distinct values, integral values are kept in primitive long hash set.
+ */
+final class DistinctValues {
+    
+    private final LongHashSet integralValues = new LongHashSet();
+    
+    private final Collection<Comparable<?>> otherValues = new HashSet<>();
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added
+     * @return whether value is absent before
+     */
+    boolean add(final Comparable<?> value) {
+        return isIntegral(value) ? integralValues.add(((Number) value).longValue()) : otherValues.add(value);
+    }
+    
+    /**
+     * Get size.
+     *
+     * @return size
+     */
+    int size() {
+        return integralValues.size() + otherValues.size();
+    }
+    
+    /**
+     * Judge whether value is integral and can be represented as long.
+     *
+     * @param value value
+     * @return is integral or not
+     */
+    static boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte || value instanceof BigInteger && ((BigInteger) value).bitLength() < 64;
+    }
+}
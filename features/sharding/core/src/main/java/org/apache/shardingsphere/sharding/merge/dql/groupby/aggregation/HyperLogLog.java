@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * HyperLogLog sketch for approximate distinct count.
+ * 
+ * <p>
+ * Registers are kept sparse as sorted packed index and rank pairs at first, and promoted to dense registers
+ * once the sparse registers would take more memory than a quarter of dense registers.
+ * </p>
+ */
+final class HyperLogLog {
+    
+    private static final int PRECISION = 14;
+    
+    private static final int REGISTER_COUNT = 1 << PRECISION;
+    
+    private static final int RANK_BITS = 8;
+    
+    private static final int MAX_SPARSE_SIZE = REGISTER_COUNT / 16;
+    
+    private static final double ALPHA = 0.7213D / (1D + 1.079D / REGISTER_COUNT);
+    
+    private int[] sparseRegisters = new int[4];
+    
+    private int sparseSize;
+    
+    private byte[] registers;
+    
+    /**
+     * Offer value.
+     *
+     * @param value value to be offered
+     */
+    void offer(final Comparable<?> value) {
+        long hash = DistinctValues.isIntegral(value)
+                ? LongHashSet.mix(((Number) value).longValue())
+                : Hashing.murmur3_128().hashString(value.toString(), StandardCharsets.UTF_8).asLong();
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        byte rank = (byte) (Long.numberOfLeadingZeros(hash << PRECISION | 1L << (PRECISION - 1)) + 1);
+        if (null == registers) {
+            offerSparse(index, rank);
+        } else if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+    
+    private void offerSparse(final int index, final byte rank) {
+        int insertPosition = -Arrays.binarySearch(sparseRegisters, 0, sparseSize, index << RANK_BITS) - 1;
+        if (insertPosition < sparseSize && index == sparseRegisters[insertPosition] >>> RANK_BITS) {
+            if (rank > (sparseRegisters[insertPosition] & 0xFF)) {
+                sparseRegisters[insertPosition] = index << RANK_BITS | rank;
+            }
+            return;
+        }
+        if (sparseSize == MAX_SPARSE_SIZE) {
+            promote();
+            registers[index] = rank;
+            return;
+        }
+        if (sparseSize == sparseRegisters.length) {
+            sparseRegisters = Arrays.copyOf(sparseRegisters, Math.min(sparseSize << 1, MAX_SPARSE_SIZE));
+        }
+        System.arraycopy(sparseRegisters, insertPosition, sparseRegisters, insertPosition + 1, sparseSize - insertPosition);
+        sparseRegisters[insertPosition] = index << RANK_BITS | rank;
+        sparseSize++;
+    }
+    
+    private void promote() {
+        registers = new byte[REGISTER_COUNT];
+        for (int i = 0; i < sparseSize; i++) {
+            registers[sparseRegisters[i] >>> RANK_BITS] = (byte) (sparseRegisters[i] & 0xFF);
+        }
+        sparseRegisters = null;
+        sparseSize = 0;
+    }
+    
+    /**
+     * Estimate distinct count.
+     *
+     * @return estimated distinct count
+     */
+    int estimate() {
+        double sum = 0D;
+        int zeroRegisterCount = 0;
+        if (null == registers) {
+            zeroRegisterCount = REGISTER_COUNT - sparseSize;
+            sum = zeroRegisterCount;
+            for (int i = 0; i < sparseSize; i++) {
+                sum += 1D / (1L << (sparseRegisters[i] & 0xFF));
+            }
+        } else {
+            for (byte each : registers) {
+                sum += 1D / (1L << each);
+                if (0 == each) {
+                    zeroRegisterCount++;
+                }
+            }
+        }
+        double result = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (result <= 2.5D * REGISTER_COUNT && zeroRegisterCount > 0) {
+            result = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeroRegisterCount);
+        }
+        return (int) Math.min(Integer.MAX_VALUE, Math.round(result));
+    }
+}
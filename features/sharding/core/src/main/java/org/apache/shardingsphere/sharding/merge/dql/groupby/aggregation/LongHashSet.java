@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+/**
+ * Open addressing hash set for primitive long values.
+ */
+final class LongHashSet {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private long[] keys = new long[INITIAL_CAPACITY];
+    
+    private boolean containsZero;
+    
+    private int size;
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added
+     * @return whether value is absent before
+     */
+    boolean add(final long value) {
+        if (0L == value) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int mask = keys.length - 1;
+        int index = (int) mix(value) & mask;
+        while (0L != keys[index]) {
+            if (value == keys[index]) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = value;
+        if (++size > keys.length >> 1) {
+            rehash();
+        }
+        return true;
+    }
+    
+    private void rehash() {
+        long[] oldKeys = keys;
+        keys = new long[oldKeys.length << 1];
+        int mask = keys.length - 1;
+        for (long each : oldKeys) {
+            if (0L == each) {
+                continue;
+            }
+            int index = (int) mix(each) & mask;
+            while (0L != keys[index]) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = each;
+        }
+    }
+    
+    /**
+     * Get size.
+     *
+     * @return size
+     */
+    int size() {
+        return size;
+    }
+    
+    /**
+     * Mix bits of long value, which is the finalizer of MurmurHash3.
+     *
+     * @param value value to be mixed
+     * @return mixed value
+     */
+    static long mix(final long value) {
+        long result = value;
+        result ^= result >>> 33;
+        result *= 0xff51afd7ed558ccdL;
+        result ^= result >>> 33;
+        result *= 0xc4ceb9fe1a85ec53L;
+        result ^= result >>> 33;
+        return result;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values, which costs log(k) comparisons to select the next minimum order by value from k query results.
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] leaves;
+    
+    private final int[] losers;
+    
+    private int winner;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        leaves = orderByValues.toArray(new OrderByValue[0]);
+        losers = new int[Math.max(leaves.length, 1)];
+        build();
+    }
+    
+    private void build() {
+        if (0 == leaves.length) {
+            winner = -1;
+            return;
+        }
+        int[] winners = new int[leaves.length << 1];
+        for (int i = 0; i < leaves.length; i++) {
+            winners[leaves.length + i] = i;
+        }
+        for (int node = leaves.length - 1; node > 0; node--) {
+            int left = winners[node << 1];
+            int right = winners[(node << 1) + 1];
+            if (isLess(left, right)) {
+                winners[node] = left;
+                losers[node] = right;
+            } else {
+                winners[node] = right;
+                losers[node] = left;
+            }
+        }
+        winner = 1 == leaves.length ? 0 : winners[1];
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return is empty or not
+     */
+    public boolean isEmpty() {
+        return -1 == winner || null == leaves[winner];
+    }
+    
+    /**
+     * Get minimum order by value.
+     *
+     * @return minimum order by value
+     */
+    public OrderByValue peek() {
+        return leaves[winner];
+    }
+    
+    /**
+     * Iterate minimum order by value to next data and replay the tree.
+     *
+     * @return has next data
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        if (!leaves[winner].next()) {
+            leaves[winner] = null;
+        }
+        int candidate = winner;
+        for (int node = (candidate + leaves.length) >> 1; node > 0; node >>= 1) {
+            if (isLess(losers[node], candidate)) {
+                int swap = losers[node];
+                losers[node] = candidate;
+                candidate = swap;
+            }
+        }
+        winner = candidate;
+        return !isEmpty();
+    }
+    
+    private boolean isLess(final int thisIndex, final int otherIndex) {
+        if (null == leaves[thisIndex]) {
+            return false;
+        }
+        if (null == leaves[otherIndex]) {
+            return true;
+        }
+        int result = leaves[thisIndex].compareTo(leaves[otherIndex]);
+        return result < 0 || 0 == result && thisIndex < otherIndex;
+    }
+}
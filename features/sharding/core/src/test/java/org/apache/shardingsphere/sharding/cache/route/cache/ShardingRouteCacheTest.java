@@ -18,11 +18,16 @@
 package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -36,4 +41,18 @@ class ShardingRouteCacheTest {
         cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
         assertTrue(cache.get(key).isPresent());
     }
+    
+    @Test
+    void assertPutMultiRouteUnitsWeighted() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(false, 1, 2));
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t", "t_0"))));
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singletonList(new RouteMapper("t", "t_1"))));
+        ShardingRouteCacheValue value = new ShardingRouteCacheValue(routeContext);
+        assertThat(value.getWeight(), is(2));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id in (?, ?)", Arrays.asList(1, 2));
+        cache.put(key, value);
+        assertTrue(cache.get(key).isPresent());
+        assertThat(cache.getStats().hitCount(), is(1L));
+    }
 }
@@ -58,6 +58,7 @@ import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -121,6 +122,65 @@ class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    void assertNextWithSpilledGroups() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        QueryResult queryResult1 = createQueryResult();
+        when(queryResult1.next()).thenReturn(true, false);
+        when(queryResult1.getValue(1, Object.class)).thenReturn(20);
+        when(queryResult1.getValue(2, Object.class)).thenReturn(0);
+        when(queryResult1.getValue(3, Object.class)).thenReturn(2);
+        when(queryResult1.getValue(4, Object.class)).thenReturn(2);
+        when(queryResult1.getValue(5, Object.class)).thenReturn(20);
+        QueryResult queryResult2 = createQueryResult();
+        QueryResult queryResult3 = createQueryResult();
+        when(queryResult3.next()).thenReturn(true, true, false);
+        when(queryResult3.getValue(1, Object.class)).thenReturn(20, 30);
+        when(queryResult3.getValue(2, Object.class)).thenReturn(0);
+        when(queryResult3.getValue(3, Object.class)).thenReturn(2, 3);
+        when(queryResult3.getValue(4, Object.class)).thenReturn(2, 3);
+        when(queryResult3.getValue(5, Object.class)).thenReturn(20, 30);
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1, false);
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(3)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(40)));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithMoreSpilledRunsThanMergeLimit() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        int rowCount = 200;
+        AtomicInteger rowIndex = new AtomicInteger(-1);
+        QueryResult queryResult1 = createQueryResult();
+        when(queryResult1.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() < rowCount);
+        when(queryResult1.getValue(1, Object.class)).thenReturn(1);
+        when(queryResult1.getValue(2, Object.class)).thenReturn(0);
+        when(queryResult1.getValue(3, Object.class)).thenAnswer(invocation -> rowIndex.get());
+        when(queryResult1.getValue(4, Object.class)).thenReturn(1);
+        when(queryResult1.getValue(5, Object.class)).thenAnswer(invocation -> rowIndex.get());
+        QueryResult queryResult2 = createQueryResult();
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1, false);
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        for (int i = rowCount - 1; i >= 0; i--) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(3, Object.class), is(i));
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(1)));
+        }
+        assertFalse(actual.next());
+        ((GroupByMemoryMergedResult) actual).close();
+    }
+    
     private SelectStatementContext createSelectStatementContext() {
         SelectStatement selectStatement = new MySQLSelectStatement();
         ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GroupBySpillRowCodecTest {
+    
+    @Test
+    void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] expected = {null, 1, 2L, (short) 3, (byte) 4, true, 5.5F, 6.6D, new BigDecimal("7.70"), new BigInteger("8"), "foo_value", new byte[]{1, 2},
+                new Date(1000L), new Time(2000L), timestamp, LocalDate.of(2023, 1, 2), LocalTime.of(3, 4, 5, 6), LocalDateTime.of(2023, 1, 2, 3, 4, 5, 6)};
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        GroupBySpillRowCodec.write(new DataOutputStream(byteArrayOutputStream), expected);
+        Object[] actual = GroupBySpillRowCodec.read(new DataInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray())), expected.length);
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    void assertWriteAndReadSerializableValues() throws IOException {
+        Object[] expected = {UUID.fromString("6f1d6f4e-4c41-4bfa-9a3c-2d1a3f6f8b10"), OffsetDateTime.of(2023, 1, 2, 3, 4, 5, 6, ZoneOffset.ofHours(8))};
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        GroupBySpillRowCodec.write(new DataOutputStream(byteArrayOutputStream), expected);
+        Object[] actual = GroupBySpillRowCodec.read(new DataInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray())), expected.length);
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    void assertWriteWithUnsupportedType() {
+        assertThrows(UnsupportedSQLOperationException.class, () -> GroupBySpillRowCodec.write(new DataOutputStream(new ByteArrayOutputStream()), new Object[]{new Object()}));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApproximateDistinctCountAggregationUnitTest {
+    
+    @Test
+    void assertEmptyApproximateDistinctCountAggregation() {
+        ApproximateDistinctCountAggregationUnit approximateDistinctCountAggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        approximateDistinctCountAggregationUnit.merge(null);
+        approximateDistinctCountAggregationUnit.merge(Collections.singletonList(null));
+        assertThat(approximateDistinctCountAggregationUnit.getResult(), is(0));
+    }
+    
+    @Test
+    void assertApproximateDistinctCountAggregation() {
+        ApproximateDistinctCountAggregationUnit approximateDistinctCountAggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        for (int i = 0; i < 100000; i++) {
+            approximateDistinctCountAggregationUnit.merge(Collections.singletonList(i % 50000));
+            approximateDistinctCountAggregationUnit.merge(Collections.singletonList("foo_" + i % 50000));
+        }
+        int actual = (Integer) approximateDistinctCountAggregationUnit.getResult();
+        assertTrue(Math.abs(actual - 100000) < 5000);
+    }
+    
+    @Test
+    void assertApproximateDistinctCountAggregationWithSparseRegisters() {
+        ApproximateDistinctCountAggregationUnit approximateDistinctCountAggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        for (int i = 0; i < 1000; i++) {
+            approximateDistinctCountAggregationUnit.merge(Collections.singletonList(i % 100));
+        }
+        int actual = (Integer) approximateDistinctCountAggregationUnit.getResult();
+        assertTrue(Math.abs(actual - 100) < 5);
+    }
+}
@@ -47,6 +47,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -196,9 +197,27 @@ class OrderByStreamMergedResultTest {
         assertTrue(actual.next());
         assertThat(actual.getValue(2, Object.class).toString(), is("A"));
         assertTrue(actual.next());
-        assertThat(actual.getValue(2, Object.class).toString(), is("B"));
-        assertTrue(actual.next());
         assertThat(actual.getValue(2, Object.class).toString(), is("b"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class).toString(), is("B"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextForManyResultSets() throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(7);
+        for (int i = 0; i < 7; i++) {
+            QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+            when(queryResult.next()).thenReturn(true, true, true, false);
+            when(queryResult.getValue(1, Object.class)).thenReturn(i, i, i + 7, i + 7, i + 14, i + 14);
+            queryResults.add(queryResult);
+        }
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, createDatabase(), mock(ConnectionContext.class));
+        for (int i = 0; i < 21; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(i));
+        }
         assertFalse(actual.next());
     }
     
@@ -34,6 +34,7 @@ import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.table.DistributionKeyRuleAttribute;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sharding.algorithm.audit.DMLShardingConditionsShardingAuditAlgorithm;
 import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
@@ -331,6 +332,17 @@ class ShardingRuleTest {
         assertThat(actual.get(), is("column"));
     }
     
+    @Test
+    void assertIsDistributionKey() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTables().add(createTableRuleConfigWithAllStrategies());
+        shardingRuleConfig.getShardingAlgorithms().put("core_standard_fixture", new AlgorithmConfiguration("CORE.STANDARD.FIXTURE", new Properties()));
+        DistributionKeyRuleAttribute actual = new ShardingRule(shardingRuleConfig, createDataSources(), mock(InstanceContext.class)).getAttributes().getAttribute(DistributionKeyRuleAttribute.class);
+        assertTrue(actual.isDistributionKey("logic_table", "column"));
+        assertFalse(actual.isDistributionKey("logic_table", "other_column"));
+        assertFalse(actual.isDistributionKey("other_table", "column"));
+    }
+    
     @Test
     void assertFindShardingColumnForDatabaseShardingStrategy() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
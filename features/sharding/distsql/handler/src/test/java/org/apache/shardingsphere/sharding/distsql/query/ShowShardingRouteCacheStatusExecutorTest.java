@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.distsql.query;
+
+import org.apache.shardingsphere.distsql.handler.engine.DistSQLConnectionContext;
+import org.apache.shardingsphere.distsql.handler.engine.query.DistSQLQueryExecuteEngine;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKey;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
+import org.apache.shardingsphere.sharding.distsql.statement.ShowShardingRouteCacheStatusStatement;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShowShardingRouteCacheStatusExecutorTest {
+    
+    @Test
+    void assertGetRowDataWithoutShardingCache() throws SQLException {
+        ShardingRule rule = mock(ShardingRule.class);
+        DistSQLQueryExecuteEngine engine = new DistSQLQueryExecuteEngine(mock(ShowShardingRouteCacheStatusStatement.class), "foo_db", mockContextManager(rule), mock(DistSQLConnectionContext.class));
+        engine.executeQuery();
+        assertTrue(engine.getRows().isEmpty());
+    }
+    
+    @Test
+    void assertGetRowData() throws SQLException {
+        ShardingRouteCache routeCache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(false, 1, 16));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id = ?", Collections.singletonList(1));
+        routeCache.get(key);
+        routeCache.put(key, new ShardingRouteCacheValue(new RouteContext()));
+        routeCache.get(key);
+        ShardingRule rule = mock(ShardingRule.class, RETURNS_DEEP_STUBS);
+        when(rule.isShardingCacheEnabled()).thenReturn(true);
+        when(rule.getShardingCache().getRouteCache()).thenReturn(routeCache);
+        DistSQLQueryExecuteEngine engine = new DistSQLQueryExecuteEngine(mock(ShowShardingRouteCacheStatusStatement.class), "foo_db", mockContextManager(rule), mock(DistSQLConnectionContext.class));
+        engine.executeQuery();
+        Collection<LocalDataQueryResultRow> actual = engine.getRows();
+        assertThat(actual.size(), is(1));
+        LocalDataQueryResultRow row = actual.iterator().next();
+        assertThat(row.getCell(1), is("1"));
+        assertThat(row.getCell(2), is("1"));
+        assertThat(row.getCell(3), is("1"));
+        assertThat(row.getCell(4), is("0.5"));
+        assertThat(row.getCell(5), is("0"));
+    }
+    
+    private ContextManager mockContextManager(final ShardingRule rule) {
+        ContextManager result = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getDatabase("foo_db")).thenReturn(database);
+        when(database.getRuleMetaData().findSingleRule(ShardingRule.class)).thenReturn(Optional.of(rule));
+        return result;
+    }
+}
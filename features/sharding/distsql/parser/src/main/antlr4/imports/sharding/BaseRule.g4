@@ -66,21 +66,29 @@ property
     ;
 
 tableName
-    : IDENTIFIER_
+    : identifier
     ;
 
 shardingAlgorithmName
-    : IDENTIFIER_
+    : identifier
     ;
 
 keyGeneratorName
-    : IDENTIFIER_
+    : identifier
     ;
 
 auditorName
-    : IDENTIFIER_
+    : identifier
     ;
 
 ruleName
-    : IDENTIFIER_
+    : identifier
+    ;
+
+identifier
+    : IDENTIFIER_ | unreservedWord
+    ;
+
+unreservedWord
+    : ROUTE | CACHE | STATUS
     ;
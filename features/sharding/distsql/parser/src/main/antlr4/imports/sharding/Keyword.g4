@@ -282,3 +282,15 @@ NONE
 PLUGINS
     : P L U G I N S
     ;
+
+ROUTE
+    : R O U T E
+    ;
+
+CACHE
+    : C A C H E
+    ;
+
+STATUS
+    : S T A T U S
+    ;
@@ -59,6 +59,10 @@ showUnusedShardingAuditors
     : SHOW UNUSED SHARDING AUDITORS (FROM databaseName)?
     ;
 
+showShardingRouteCacheStatus
+    : SHOW SHARDING ROUTE CACHE STATUS (FROM databaseName)?
+    ;
+
 showShardingTableRulesUsedAlgorithm
     : SHOW SHARDING TABLE RULES USED ALGORITHM shardingAlgorithmName (FROM databaseName)?
     ;
@@ -80,5 +84,5 @@ tableRule
     ;
 
 databaseName
-    : IDENTIFIER_
+    : identifier
     ;
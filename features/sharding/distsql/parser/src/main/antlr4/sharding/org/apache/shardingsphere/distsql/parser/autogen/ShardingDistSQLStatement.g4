@@ -45,6 +45,7 @@ execute
     | showUnusedShardingAlgorithms
     | showUnusedShardingKeyGenerators
     | showUnusedShardingAuditors
+    | showShardingRouteCacheStatus
     | countShardingRule
     | showShardingAlgorithmPlugins
     ) SEMI_? EOF
@@ -30,8 +30,11 @@ import org.apache.shardingsphere.infra.instance.InstanceContextAware;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -47,6 +50,14 @@ import java.util.concurrent.atomic.AtomicReference;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one mills
  * </pre>
+ * 
+ * <p>Last millis and last sequence are packed into one atomic long and reserved by CAS, keys of one call are reserved as contiguous ranges.</p>
+ * 
+ * <p>
+ * Prefetch is disabled by default. If prefetch size is set, each thread caches reserved keys in a thread local of this instance,
+ * so keys of different threads are no longer ordered by time, keys cached by idle or terminated threads are never used,
+ * and each pooled thread keeps one cache for each algorithm instance.
+ * </p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, InstanceContextAware {
     
@@ -56,6 +67,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private static final String MAX_TOLERATE_TIME_DIFFERENCE_MILLIS_KEY = "max-tolerate-time-difference-milliseconds";
     
+    private static final String PREFETCH_SIZE_KEY = "prefetch-size";
+    
     private static final long SEQUENCE_BITS = 12L;
     
     private static final long WORKER_ID_BITS = 10L;
@@ -72,6 +85,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private static final int DEFAULT_WORKER_ID = 0;
     
+    private static final int DEFAULT_PREFETCH_SIZE = 0;
+    
     @Setter
     private static TimeService timeService = new TimeService();
     
@@ -79,9 +94,9 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private final AtomicInteger sequenceOffset = new AtomicInteger(-1);
     
-    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong lastMillisAndSequence = new AtomicLong();
     
-    private final AtomicLong lastMillis = new AtomicLong();
+    private final ThreadLocal<Deque<Long>> prefetchedKeys = ThreadLocal.withInitial(ArrayDeque::new);
     
     private Properties props;
     
@@ -89,6 +104,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private int maxTolerateTimeDifferenceMillis;
     
+    private int prefetchSize;
+    
     static {
         EPOCH = LocalDateTime.of(2016, 11, 1, 0, 0, 0).toInstant(ZoneId.systemDefault().getRules().getOffset(Instant.now())).toEpochMilli();
     }
@@ -98,6 +115,7 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         this.props = props;
         maxVibrationOffset = getMaxVibrationOffset(props);
         maxTolerateTimeDifferenceMillis = getMaxTolerateTimeDifferenceMillis(props);
+        prefetchSize = getPrefetchSize(props);
     }
     
     private int getMaxVibrationOffset(final Properties props) {
@@ -112,6 +130,12 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         return result;
     }
     
+    private int getPrefetchSize(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(PREFETCH_SIZE_KEY, DEFAULT_PREFETCH_SIZE).toString());
+        ShardingSpherePreconditions.checkState(result >= 0 && result <= SEQUENCE_MASK + 1L, () -> new AlgorithmInitializationException(this, "Illegal prefetch size."));
+        return result;
+    }
+    
     @Override
     public void setInstanceContext(final InstanceContext instanceContext) {
         this.instanceContext.set(instanceContext);
@@ -122,55 +146,65 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     @Override
     public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
-        Collection<Long> result = new LinkedList<>();
-        for (int index = 0; index < keyGenerateCount; index++) {
-            result.add(generateKey());
+        if (0 == prefetchSize) {
+            return reserveKeys(keyGenerateCount);
+        }
+        Collection<Long> result = new ArrayList<>(keyGenerateCount);
+        Deque<Long> keys = prefetchedKeys.get();
+        while (result.size() < keyGenerateCount) {
+            if (keys.isEmpty()) {
+                keys.addAll(reserveKeys(Math.max(prefetchSize, keyGenerateCount - result.size())));
+            }
+            result.add(keys.poll());
         }
         return result;
     }
     
-    private synchronized Long generateKey() {
-        long currentMillis = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMillis)) {
-            currentMillis = timeService.getCurrentMillis();
-        }
-        if (lastMillis.get() == currentMillis) {
-            sequence.set(sequence.incrementAndGet() & SEQUENCE_MASK);
-            if (0L == sequence.get()) {
-                currentMillis = waitUntilNextTime(currentMillis);
+    private List<Long> reserveKeys(final int keyGenerateCount) {
+        List<Long> result = new ArrayList<>(keyGenerateCount);
+        while (result.size() < keyGenerateCount) {
+            long current = lastMillisAndSequence.get();
+            long lastMillis = current >>> SEQUENCE_BITS;
+            long lastSequence = current & SEQUENCE_MASK;
+            long currentMillis = timeService.getCurrentMillis();
+            if (currentMillis < lastMillis) {
+                waitTolerateTimeDifference(lastMillis, currentMillis);
+                continue;
+            }
+            if (currentMillis == lastMillis && SEQUENCE_MASK == lastSequence) {
+                waitUntilNextTime(lastMillis);
+                continue;
+            }
+            long firstSequence = currentMillis == lastMillis ? lastSequence + 1L : vibrateSequenceOffset();
+            long count = Math.min(keyGenerateCount - result.size(), SEQUENCE_MASK - firstSequence + 1L);
+            if (lastMillisAndSequence.compareAndSet(current, (currentMillis << SEQUENCE_BITS) | (firstSequence + count - 1L))) {
+                long firstKey = ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | firstSequence;
+                for (long each = firstKey; each < firstKey + count; each++) {
+                    result.add(each);
+                }
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence.set(sequenceOffset.get());
         }
-        lastMillis.set(currentMillis);
-        return ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence.get();
+        return result;
     }
     
     @SneakyThrows(InterruptedException.class)
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMillis) {
-        if (lastMillis.get() <= currentMillis) {
-            return false;
-        }
-        long timeDifferenceMillis = lastMillis.get() - currentMillis;
+    private void waitTolerateTimeDifference(final long lastMillis, final long currentMillis) {
+        long timeDifferenceMillis = lastMillis - currentMillis;
         ShardingSpherePreconditions.checkState(timeDifferenceMillis < maxTolerateTimeDifferenceMillis,
-                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis.get(), currentMillis));
+                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis, currentMillis));
         Thread.sleep(timeDifferenceMillis);
-        return true;
     }
     
-    private long waitUntilNextTime(final long lastTime) {
-        long result = timeService.getCurrentMillis();
-        while (result <= lastTime) {
-            result = timeService.getCurrentMillis();
+    private void waitUntilNextTime(final long lastTime) {
+        long currentMillis = timeService.getCurrentMillis();
+        while (currentMillis <= lastTime) {
+            Thread.yield();
+            currentMillis = timeService.getCurrentMillis();
         }
-        return result;
     }
     
-    private void vibrateSequenceOffset() {
-        if (!sequenceOffset.compareAndSet(maxVibrationOffset, 0)) {
-            sequenceOffset.incrementAndGet();
-        }
+    private int vibrateSequenceOffset() {
+        return sequenceOffset.updateAndGet(each -> each >= maxVibrationOffset ? 0 : each + 1);
     }
     
     private int getWorkerId() {
@@ -44,12 +44,15 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -98,10 +101,66 @@ class SnowflakeKeyGenerateAlgorithmTest {
         }
         List<Comparable<?>> expected = Arrays.asList(0L, 4194305L, 4194306L, 8388608L, 8388609L, 12582913L, 12582914L, 16777216L, 16777217L, 20971521L);
         List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
+        for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
+            actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 1));
+        }
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    void assertGenerateKeysInContiguousRange() {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE");
+        if (algorithm instanceof InstanceContextAware) {
+            ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
+        }
+        List<Comparable<?>> expected = Arrays.asList(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+        List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
         actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT));
         assertThat(actual, is(expected));
     }
     
+    @Test
+    void assertGenerateKeysWithConcurrentWriters() throws InterruptedException, ExecutionException {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        int writerCount = 64;
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE");
+        if (algorithm instanceof InstanceContextAware) {
+            ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(writerCount);
+        Collection<Callable<Collection<Comparable<?>>>> writers = new LinkedList<>();
+        for (int i = 0; i < writerCount; i++) {
+            writers.add(() -> {
+                Collection<Comparable<?>> result = new LinkedList<>();
+                for (int j = 0; j < 100; j++) {
+                    result.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT));
+                }
+                return result;
+            });
+        }
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (Future<Collection<Comparable<?>>> each : executor.invokeAll(writers)) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(writerCount * 100 * DEFAULT_KEY_AMOUNT));
+    }
+    
+    @Test
+    void assertGenerateKeysWithPrefetch() {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("prefetch-size", "8")));
+        if (algorithm instanceof InstanceContextAware) {
+            ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
+        }
+        List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
+        for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
+            actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 1));
+        }
+        assertThat(actual, is(Arrays.asList(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 4194305L, 4194306L)));
+    }
+    
     @Test
     void assertLastDigitalOfGenerateKeySameMillisecond() {
         SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(5));
@@ -150,8 +209,8 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof InstanceContextAware) {
             ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
         }
-        setLastMillis(algorithm, timeService.getCurrentMillis() + 2);
-        List<Comparable<?>> expected = Arrays.asList(4194304L, 8388609L, 8388610L, 12582912L, 12582913L, 16777217L, 16777218L, 20971520L, 20971521L, 25165825L);
+        setLastMillisAndSequence(algorithm, timeService.getCurrentMillis() + 2, 0L);
+        List<Comparable<?>> expected = Arrays.asList(8388609L, 8388610L, 8388611L, 8388612L, 8388613L, 8388614L, 8388615L, 8388616L, 8388617L, 8388618L);
         List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
         actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT));
         assertThat(actual, is(expected));
@@ -165,7 +224,7 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof InstanceContextAware) {
             ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
         }
-        setLastMillis(algorithm, timeService.getCurrentMillis() + 2);
+        setLastMillisAndSequence(algorithm, timeService.getCurrentMillis() + 2, 0L);
         assertThrows(AlgorithmExecuteException.class, () -> batchGenerate(algorithm));
     }
     
@@ -181,22 +240,16 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof InstanceContextAware) {
             ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
         }
-        setLastMillis(algorithm, timeService.getCurrentMillis());
-        setSequence(algorithm, (1 << DEFAULT_SEQUENCE_BITS) - 1L);
-        List<Comparable<?>> expected = Arrays.asList(4194304L, 4194305L, 4194306L, 8388608L, 8388609L, 8388610L, 12582913L, 12582914L, 12582915L, 16777216L);
+        setLastMillisAndSequence(algorithm, timeService.getCurrentMillis(), (1 << DEFAULT_SEQUENCE_BITS) - 1L);
+        List<Comparable<?>> expected = Arrays.asList(4194304L, 4194305L, 4194306L, 4194307L, 4194308L, 4194309L, 4194310L, 4194311L, 4194312L, 4194313L);
         List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
         actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT));
         assertThat(actual, is(expected));
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setLastMillis(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMillis"), algorithm, new AtomicLong(value.longValue()));
-    }
-    
-    @SneakyThrows(ReflectiveOperationException.class)
-    private void setSequence(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("sequence"), algorithm, new AtomicLong(value.longValue()));
+    private void setLastMillisAndSequence(final KeyGenerateAlgorithm algorithm, final long lastMillis, final long sequence) {
+        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMillisAndSequence"), algorithm, new AtomicLong(lastMillis << DEFAULT_SEQUENCE_BITS | sequence));
     }
     
     @Test
@@ -229,6 +282,13 @@ class SnowflakeKeyGenerateAlgorithmTest {
                         .generateKeys(mock(AlgorithmSQLContext.class), 1));
     }
     
+    @Test
+    void assertSetPrefetchSizeFailureWhenOutOfRange() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("prefetch-size", "4097")))
+                        .generateKeys(mock(AlgorithmSQLContext.class), 1));
+    }
+    
     @Test
     void assertSetMaxTolerateTimeDifferenceMilliseconds() throws ReflectiveOperationException {
         KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("max-tolerate-time-difference-milliseconds", "1")));
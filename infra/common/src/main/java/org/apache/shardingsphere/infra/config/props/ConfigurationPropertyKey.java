@@ -54,11 +54,33 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether execute SQL with virtual thread, only available on JDK 21 or above.
+     */
+    KERNEL_VIRTUAL_THREAD_ENABLED("kernel-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Max in-memory group count of group by memory merge, rows of groups beyond it will be spilled to local temporary files as sorted runs.
+     * Less than or equal to 0 means no limitation.
+     */
+    GROUP_BY_MEMORY_MERGE_MAX_GROUPS("group-by-memory-merge-max-groups", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether estimate count distinct aggregation with HyperLogLog sketch during merging, the result is approximate with about 1% standard error.
+     */
+    DISTINCT_COUNT_APPROXIMATE_ENABLED("distinct-count-approximate-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max row count of each multi values INSERT statement coalesced from single values INSERT rows added by JDBC batch and routed to same data node.
+     * Update count of each row is 1 or SUCCESS_NO_INFO then. Less than or equal to 1 means disabled.
+     */
+    BATCH_INSERT_VALUES_COALESCING_SIZE("batch-insert-values-coalescing-size", String.valueOf(0), int.class, false),
+    
     /**
      * Whether validate table metadata consistency when application startup or updated.
      */
@@ -74,6 +96,12 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
+    /**
+     * Proxy frontend write buffer size in bytes, response packets smaller than it are aggregated before writing and flushes are consolidated.
+     * Less than or equal to 0 means disabled.
+     */
+    PROXY_FRONTEND_WRITE_BUFFER_SIZE("proxy-frontend-write-buffer-size", String.valueOf(0), int.class, false),
+    
     /**
      * Proxy backend query fetch size. A larger value may increase the memory usage of ShardingSphere Proxy.
      * The default value is -1, which means set the minimum value for different JDBC drivers.
@@ -85,6 +113,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_EXECUTOR_SIZE("proxy-frontend-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether occupy virtual thread instead of platform thread for each connection, only available on JDK 21 or above.
+     */
+    PROXY_FRONTEND_VIRTUAL_THREAD_ENABLED("proxy-frontend-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Less than or equal to 0 means no limitation.
      */
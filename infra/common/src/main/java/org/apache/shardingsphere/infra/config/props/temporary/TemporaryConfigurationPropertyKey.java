@@ -40,7 +40,27 @@ public enum TemporaryConfigurationPropertyKey implements TypedPropertyKey {
     /**
      * System schema metadata enabled.
      */
-    SYSTEM_SCHEMA_METADATA_ENABLED("system-schema-metadata-enabled", String.valueOf(Boolean.TRUE), boolean.class, true);
+    SYSTEM_SCHEMA_METADATA_ENABLED("system-schema-metadata-enabled", String.valueOf(Boolean.TRUE), boolean.class, true),
+    
+    /**
+     * Meta data revalidation enabled.
+     */
+    META_DATA_REVALIDATION_ENABLED("meta-data-revalidation-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Agent SQL stage latency metrics enabled.
+     */
+    AGENT_SQL_STAGE_LATENCY_METRICS_ENABLED("agent-sql-stage-latency-metrics-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Proxy completion ordered execution enabled.
+     */
+    PROXY_COMPLETION_ORDERED_EXECUTION_ENABLED("proxy-completion-ordered-execution-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Proxy completion ordered execution group timeout milliseconds.
+     */
+    PROXY_COMPLETION_ORDERED_EXECUTION_GROUP_TIMEOUT_MILLISECONDS("proxy-completion-ordered-execution-group-timeout-milliseconds", String.valueOf(0), long.class, false);
     
     private final String key;
     
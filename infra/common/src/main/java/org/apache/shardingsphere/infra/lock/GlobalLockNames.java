@@ -28,7 +28,9 @@ public enum GlobalLockNames {
     
     PREPARE("prepare_%s"),
     
-    GLOBAL_LOCK("global_clock");
+    GLOBAL_LOCK("global_clock"),
+    
+    META_DATA_REVALIDATION("meta_data_revalidation");
     
     private final String lockName;
 }
@@ -17,13 +17,16 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionTimeoutException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.sql.SQLException;
 import java.util.Collection;
@@ -31,8 +34,16 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * Executor engine.
@@ -41,10 +52,15 @@ import java.util.concurrent.Future;
 @Getter
 public final class ExecutorEngine implements AutoCloseable {
     
+    private static final String DEFAULT_NAME_FORMAT = "%d";
+    
     private final ExecutorServiceManager executorServiceManager;
     
-    private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+    @Getter(AccessLevel.NONE)
+    private volatile ScheduledExecutorService timeoutExecutor;
+    
+    private ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, DEFAULT_NAME_FORMAT, virtualThreadEnabled);
     }
     
     /**
@@ -54,7 +70,18 @@ public final class ExecutorEngine implements AutoCloseable {
      * @return created executor engine
      */
     public static ExecutorEngine createExecutorEngineWithSize(final int executorSize) {
-        return new ExecutorEngine(executorSize);
+        return new ExecutorEngine(executorSize, false);
+    }
+    
+    /**
+     * Create executor engine with executor size and thread type.
+     *
+     * @param executorSize executor size, it is ignored when virtual thread is enabled
+     * @param virtualThreadEnabled whether execute with virtual thread
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        return new ExecutorEngine(executorSize, virtualThreadEnabled);
     }
     
     /**
@@ -78,6 +105,69 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getReportContext().getProcessId(), firstCallback, callback);
     }
     
+    /**
+     * Execute asynchronously.
+     * 
+     * <p>Each group's results are passed to group result consumer as soon as the group finishes, so the slow group will not hold back the others.
+     * The returned future will be completed exceptionally with the first failure, and cancel it will cancel all unfinished groups.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param callback executor callback
+     * @param groupResultConsumer group result consumer, invoked in completion order and never concurrently
+     * @param groupTimeoutMillis timeout milliseconds of each group, zero or negative means no timeout
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute result in completion order
+     */
+    public <I, O> CompletableFuture<List<O>> executeAsync(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> callback,
+                                                          final Consumer<Collection<O>> groupResultConsumer, final long groupTimeoutMillis) {
+        CompletableFuture<List<O>> result = new CompletableFuture<>();
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            result.complete(Collections.emptyList());
+            return result;
+        }
+        String processId = executionGroupContext.getReportContext().getProcessId();
+        List<O> completedResults = new LinkedList<>();
+        AtomicInteger remainingGroupCount = new AtomicInteger(executionGroupContext.getInputGroups().size());
+        Collection<CompletableFuture<Collection<O>>> groupFutures = new LinkedList<>();
+        for (ExecutionGroup<I> each : executionGroupContext.getInputGroups()) {
+            CompletableFuture<Collection<O>> groupFuture = asyncExecute(each, processId, callback, groupTimeoutMillis);
+            groupFutures.add(groupFuture);
+            groupFuture.whenComplete((groupResults, ex) -> onGroupCompleted(result, completedResults, remainingGroupCount, groupResultConsumer, groupResults, ex));
+        }
+        result.whenComplete((unused, ex) -> {
+            if (null != ex) {
+                groupFutures.forEach(each -> each.cancel(true));
+            }
+        });
+        return result;
+    }
+    
+    private <O> void onGroupCompleted(final CompletableFuture<List<O>> result, final List<O> completedResults, final AtomicInteger remainingGroupCount,
+                                      final Consumer<Collection<O>> groupResultConsumer, final Collection<O> groupResults, final Throwable groupException) {
+        if (null != groupException) {
+            result.completeExceptionally(groupException instanceof CompletionException && null != groupException.getCause() ? groupException.getCause() : groupException);
+            return;
+        }
+        synchronized (completedResults) {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                groupResultConsumer.accept(groupResults);
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ex) {
+                // CHECKSTYLE:ON
+                result.completeExceptionally(ex);
+                return;
+            }
+            completedResults.addAll(groupResults);
+        }
+        if (0 == remainingGroupCount.decrementAndGet()) {
+            result.complete(completedResults);
+        }
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> firstCallback,
                                          final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
@@ -111,6 +201,41 @@ public final class ExecutorEngine implements AutoCloseable {
         return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, processId));
     }
     
+    private <I, O> CompletableFuture<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback,
+                                                                 final long timeoutMillis) {
+        CompletableFuture<Collection<O>> result = new CompletableFuture<>();
+        Future<?> task = executorServiceManager.getExecutorService().submit(() -> {
+            try {
+                result.complete(callback.execute(executionGroup.getInputs(), false, processId));
+                // CHECKSTYLE:OFF
+            } catch (final SQLException | RuntimeException ex) {
+                // CHECKSTYLE:ON
+                result.completeExceptionally(ex);
+            }
+        });
+        if (timeoutMillis > 0L) {
+            ScheduledFuture<?> timeoutFuture = getTimeoutExecutor().schedule(() -> result.completeExceptionally(new SQLExecutionTimeoutException(timeoutMillis)), timeoutMillis, TimeUnit.MILLISECONDS);
+            result.whenComplete((unused, ex) -> timeoutFuture.cancel(false));
+        }
+        result.whenComplete((unused, ex) -> {
+            if (null != ex) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+    
+    private ScheduledExecutorService getTimeoutExecutor() {
+        if (null == timeoutExecutor) {
+            synchronized (this) {
+                if (null == timeoutExecutor) {
+                    timeoutExecutor = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("Executor-Engine-Timeout-%d"));
+                }
+            }
+        }
+        return timeoutExecutor;
+    }
+    
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
         List<O> result = new LinkedList<>(firstResults);
         for (Future<Collection<O>> each : restFutures) {
@@ -135,5 +260,8 @@ public final class ExecutorEngine implements AutoCloseable {
     @Override
     public void close() {
         executorServiceManager.close();
+        if (null != timeoutExecutor) {
+            timeoutExecutor.shutdownNow();
+        }
     }
 }
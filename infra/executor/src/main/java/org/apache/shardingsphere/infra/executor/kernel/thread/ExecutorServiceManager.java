@@ -19,6 +19,8 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -29,6 +31,7 @@ import java.util.concurrent.TimeUnit;
  * Executor service manager.
  */
 @Getter
+@Slf4j
 public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
@@ -42,14 +45,29 @@ public final class ExecutorServiceManager {
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, false);
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat, virtualThreadEnabled));
+    }
+    
+    private ExecutorService getExecutorService(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        if (virtualThreadEnabled) {
+            if (ExecutorThreadFactoryBuilder.isVirtualThreadSupported()) {
+                return newThreadPerTaskExecutor(ExecutorThreadFactoryBuilder.buildVirtual(nameFormat));
+            }
+            log.warn("Virtual thread is not supported by current JVM, use platform thread instead.");
+        }
         ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    @SneakyThrows(ReflectiveOperationException.class)
+    private ExecutorService newThreadPerTaskExecutor(final ThreadFactory threadFactory) {
+        return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory);
+    }
+    
     /**
      * Close executor service.
      */
@@ -31,6 +31,8 @@ public final class ExecutorThreadFactoryBuilder {
     
     private static final String NAME_FORMAT_PREFIX = "ShardingSphere-";
     
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = loadVirtualThreadFactory();
+    
     /**
      * Build thread factory with thread name format.
      * 
@@ -40,4 +42,34 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build virtual thread factory with thread name format.
+     *
+     * <p>Virtual thread is only supported on JDK 21 or above, daemon platform thread factory will be built if current JVM does not support it.</p>
+     *
+     * @param nameFormat thread name format
+     * @return thread factory
+     */
+    public static ThreadFactory buildVirtual(final String nameFormat) {
+        return isVirtualThreadSupported() ? new ThreadFactoryBuilder().setThreadFactory(VIRTUAL_THREAD_FACTORY).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build() : build(nameFormat);
+    }
+    
+    /**
+     * Judge whether current JVM supports virtual thread.
+     *
+     * @return supports virtual thread or not
+     */
+    public static boolean isVirtualThreadSupported() {
+        return null != VIRTUAL_THREAD_FACTORY;
+    }
+    
+    private static ThreadFactory loadVirtualThreadFactory() {
+        try {
+            Object virtualThreadBuilder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(virtualThreadBuilder);
+        } catch (final ReflectiveOperationException ignored) {
+            return null;
+        }
+    }
 }
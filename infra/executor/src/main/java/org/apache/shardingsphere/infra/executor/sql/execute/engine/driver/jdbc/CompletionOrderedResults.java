@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
+
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionInterruptedException;
+
+import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Execute results in completion order.
+ * 
+ * <p>Each execution group's results are appended as soon as the group finishes, and reading a result which has not arrived yet blocks until it arrives.
+ * So the merge layer iterating the results starts on the fast groups while the slow groups are still executing.
+ * Failure of any group is thrown when reading a result which can not arrive anymore, and closing the results cancels all unfinished groups.</p>
+ * 
+ * @param <T> type of execute result
+ */
+public final class CompletionOrderedResults<T> extends AbstractList<T> implements AutoCloseable {
+    
+    private final int expectedSize;
+    
+    private final List<T> arrivedResults = new ArrayList<>();
+    
+    private volatile CompletableFuture<List<T>> future;
+    
+    CompletionOrderedResults(final int expectedSize) {
+        this.expectedSize = expectedSize;
+    }
+    
+    synchronized void append(final Collection<T> groupResults) {
+        arrivedResults.addAll(groupResults);
+        notifyAll();
+    }
+    
+    void bind(final CompletableFuture<List<T>> future) {
+        this.future = future;
+        future.whenComplete((unused, ex) -> {
+            synchronized (this) {
+                notifyAll();
+            }
+        });
+    }
+    
+    /**
+     * Perform action when all execution groups are finished, failed or cancelled.
+     * 
+     * @param action action
+     */
+    public void whenComplete(final Runnable action) {
+        future.whenComplete((unused, ex) -> action.run());
+    }
+    
+    @Override
+    public T get(final int index) {
+        synchronized (this) {
+            while (arrivedResults.size() <= index && !future.isDone()) {
+                try {
+                    wait();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    future.cancel(true);
+                    throw new SQLExecutionInterruptedException();
+                }
+            }
+            if (arrivedResults.size() > index) {
+                return arrivedResults.get(index);
+            }
+        }
+        throw getFailure(index);
+    }
+    
+    private RuntimeException getFailure(final int index) {
+        try {
+            future.join();
+        } catch (final CancellationException ex) {
+            return new SQLExecutionInterruptedException();
+        } catch (final CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof SQLException) {
+                return new SQLWrapperException((SQLException) cause);
+            }
+            if (cause instanceof RuntimeException) {
+                return (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            return new UnknownSQLException((Exception) cause);
+        }
+        return new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, expectedSize));
+    }
+    
+    @Override
+    public int size() {
+        return expectedSize;
+    }
+    
+    @Override
+    public void close() {
+        future.cancel(true);
+    }
+}
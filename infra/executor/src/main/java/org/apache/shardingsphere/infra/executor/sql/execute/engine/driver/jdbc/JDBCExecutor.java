@@ -69,4 +69,20 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute and pass results to the caller in completion order of execution groups.
+     *
+     * @param executionGroupContext execution group context
+     * @param callback JDBC execute callback, which must return one result for each execution unit
+     * @param groupTimeoutMillis timeout milliseconds of each execution group, zero or negative means no timeout
+     * @param <T> class type of return value
+     * @return execute results in completion order
+     */
+    public <T> CompletionOrderedResults<T> executeInCompletionOrder(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                                    final JDBCExecutorCallback<T> callback, final long groupTimeoutMillis) {
+        CompletionOrderedResults<T> result = new CompletionOrderedResults<>(executionGroupContext.getInputGroups().stream().mapToInt(each -> each.getInputs().size()).sum());
+        result.bind(executorEngine.executeAsync(executionGroupContext, callback, result::append, groupTimeoutMillis));
+        return result;
+    }
 }
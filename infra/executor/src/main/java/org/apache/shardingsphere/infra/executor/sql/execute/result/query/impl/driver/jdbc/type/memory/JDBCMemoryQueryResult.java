@@ -19,7 +19,7 @@ package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.d
 
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractColumnarMemoryQueryResult;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -27,9 +27,9 @@ import java.sql.SQLException;
 /**
  * JDBC query result for memory loading.
  */
-public final class JDBCMemoryQueryResult extends AbstractMemoryQueryResult {
+public final class JDBCMemoryQueryResult extends AbstractColumnarMemoryQueryResult {
     
     public JDBCMemoryQueryResult(final ResultSet resultSet, final DatabaseType databaseType) throws SQLException {
-        super(new JDBCQueryResultMetaData(resultSet.getMetaData()), new QueryResultDataRowLoader(databaseType).load(resultSet.getMetaData().getColumnCount(), resultSet));
+        super(new JDBCQueryResultMetaData(resultSet.getMetaData()), new QueryResultDataColumnLoader(databaseType).load(resultSet.getMetaData().getColumnCount(), resultSet));
     }
 }
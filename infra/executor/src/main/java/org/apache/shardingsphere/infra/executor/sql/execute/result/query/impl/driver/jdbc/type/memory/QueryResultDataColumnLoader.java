@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import org.apache.shardingsphere.infra.database.core.resultset.ResultSetMapper;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.DoubleMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.LongMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.ObjectMemoryQueryResultColumn;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Query result data column loader.
+ */
+public final class QueryResultDataColumnLoader {
+    
+    private final ResultSetMapper resultSetMapper;
+    
+    public QueryResultDataColumnLoader(final DatabaseType databaseType) {
+        resultSetMapper = new ResultSetMapper(databaseType);
+    }
+    
+    /**
+     * Load query result data columns.
+     * 
+     * @param columnCount column count
+     * @param resultSet result set
+     * @return query result data columns
+     * @throws SQLException SQL exception
+     */
+    public MemoryQueryResultColumn[] load(final int columnCount, final ResultSet resultSet) throws SQLException {
+        MemoryQueryResultColumn[] result = createColumns(columnCount, resultSet.getMetaData());
+        while (resultSet.next()) {
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                Object rowValue = resultSetMapper.load(resultSet, columnIndex);
+                add(result, columnIndex - 1, resultSet.wasNull() ? null : rowValue);
+            }
+        }
+        return result;
+    }
+    
+    private MemoryQueryResultColumn[] createColumns(final int columnCount, final ResultSetMetaData metaData) throws SQLException {
+        MemoryQueryResultColumn[] result = new MemoryQueryResultColumn[columnCount];
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result[columnIndex - 1] = createColumn(metaData.getColumnType(columnIndex));
+        }
+        return result;
+    }
+    
+    private MemoryQueryResultColumn createColumn(final int columnType) {
+        switch (columnType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return new LongMemoryQueryResultColumn();
+            case Types.FLOAT:
+            case Types.REAL:
+            case Types.DOUBLE:
+                return new DoubleMemoryQueryResultColumn();
+            default:
+                return new ObjectMemoryQueryResultColumn();
+        }
+    }
+    
+    private void add(final MemoryQueryResultColumn[] columns, final int index, final Object value) {
+        if (!columns[index].add(value)) {
+            columns[index] = new ObjectMemoryQueryResultColumn(columns[index]);
+            columns[index].add(value);
+        }
+    }
+}
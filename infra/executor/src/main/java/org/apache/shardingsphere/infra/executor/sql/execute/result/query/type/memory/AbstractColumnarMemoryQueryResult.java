@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumn;
+
+/**
+ * Abstract columnar memory query result.
+ * 
+ * <p>Values are stored by column, numeric columns are stored in primitive arrays instead of boxed values for each cell.</p>
+ */
+public abstract class AbstractColumnarMemoryQueryResult extends AbstractMemoryQueryResult {
+    
+    private final MemoryQueryResultColumn[] columns;
+    
+    private final int totalRowCount;
+    
+    private int currentRowIndex = -1;
+    
+    protected AbstractColumnarMemoryQueryResult(final QueryResultMetaData metaData, final MemoryQueryResultColumn[] columns) {
+        super(metaData, getTotalRowCount(columns));
+        this.columns = columns;
+        totalRowCount = getTotalRowCount(columns);
+    }
+    
+    private static int getTotalRowCount(final MemoryQueryResultColumn[] columns) {
+        return 0 == columns.length ? 0 : columns[0].size();
+    }
+    
+    @Override
+    protected final boolean nextRow() {
+        if (currentRowIndex + 1 < totalRowCount) {
+            currentRowIndex++;
+            return true;
+        }
+        currentRowIndex = totalRowCount;
+        return false;
+    }
+    
+    /**
+     * Judge whether cursor is on a row.
+     *
+     * @return cursor is on a row or not
+     */
+    public final boolean isOnRow() {
+        return currentRowIndex >= 0 && currentRowIndex < totalRowCount;
+    }
+    
+    @Override
+    protected final Object getCurrentRowValue(final int columnIndex) {
+        return columns[columnIndex - 1].get(currentRowIndex);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.BitSet;
+
+/**
+ * Abstract primitive memory query result column.
+ * 
+ * <p>Values are stored in primitive array with null bitmap, and boxed to the type of first non-null value when get.</p>
+ */
+public abstract class AbstractPrimitiveMemoryQueryResultColumn implements MemoryQueryResultColumn {
+    
+    protected static final int DEFAULT_CAPACITY = 16;
+    
+    private final BitSet nullValues = new BitSet();
+    
+    private Class<?> valueClass;
+    
+    private int size;
+    
+    @Override
+    public final boolean add(final Object value) {
+        if (null != value && !isAcceptable(value.getClass())) {
+            return false;
+        }
+        ensureCapacity(size + 1);
+        if (null == value) {
+            nullValues.set(size);
+        } else {
+            valueClass = value.getClass();
+            setValue(size, value);
+        }
+        size++;
+        return true;
+    }
+    
+    private boolean isAcceptable(final Class<?> currentValueClass) {
+        return null == valueClass ? isSupported(currentValueClass) : valueClass == currentValueClass;
+    }
+    
+    @Override
+    public final Object get(final int rowIndex) {
+        return nullValues.get(rowIndex) ? null : getValue(rowIndex, valueClass);
+    }
+    
+    @Override
+    public final int size() {
+        return size;
+    }
+    
+    protected abstract boolean isSupported(Class<?> valueClass);
+    
+    protected abstract void ensureCapacity(int capacity);
+    
+    protected abstract void setValue(int rowIndex, Object value);
+    
+    protected abstract Object getValue(int rowIndex, Class<?> valueClass);
+}
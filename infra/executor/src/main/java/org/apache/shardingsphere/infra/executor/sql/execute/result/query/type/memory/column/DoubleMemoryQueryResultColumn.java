@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.Arrays;
+
+/**
+ * Double memory query result column, which stores values of double and float.
+ */
+public final class DoubleMemoryQueryResultColumn extends AbstractPrimitiveMemoryQueryResultColumn {
+    
+    private double[] values = new double[DEFAULT_CAPACITY];
+    
+    @Override
+    protected boolean isSupported(final Class<?> valueClass) {
+        return Double.class == valueClass || Float.class == valueClass;
+    }
+    
+    @Override
+    protected void ensureCapacity(final int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, values.length << 1));
+        }
+    }
+    
+    @Override
+    protected void setValue(final int rowIndex, final Object value) {
+        values[rowIndex] = ((Number) value).doubleValue();
+    }
+    
+    @Override
+    protected Object getValue(final int rowIndex, final Class<?> valueClass) {
+        if (Float.class == valueClass) {
+            return (float) values[rowIndex];
+        }
+        return values[rowIndex];
+    }
+}
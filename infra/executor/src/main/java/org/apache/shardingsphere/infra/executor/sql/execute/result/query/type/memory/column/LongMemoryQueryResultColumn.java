@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.Arrays;
+
+/**
+ * Long memory query result column, which stores values of long, int, short and byte.
+ */
+public final class LongMemoryQueryResultColumn extends AbstractPrimitiveMemoryQueryResultColumn {
+    
+    private long[] values = new long[DEFAULT_CAPACITY];
+    
+    @Override
+    protected boolean isSupported(final Class<?> valueClass) {
+        return Long.class == valueClass || Integer.class == valueClass || Short.class == valueClass || Byte.class == valueClass;
+    }
+    
+    @Override
+    protected void ensureCapacity(final int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, values.length << 1));
+        }
+    }
+    
+    @Override
+    protected void setValue(final int rowIndex, final Object value) {
+        values[rowIndex] = ((Number) value).longValue();
+    }
+    
+    @Override
+    protected Object getValue(final int rowIndex, final Class<?> valueClass) {
+        if (Integer.class == valueClass) {
+            return (int) values[rowIndex];
+        }
+        if (Short.class == valueClass) {
+            return (short) values[rowIndex];
+        }
+        if (Byte.class == valueClass) {
+            return (byte) values[rowIndex];
+        }
+        return values[rowIndex];
+    }
+}
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -98,8 +99,12 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     private ExecutionGroup<T> createExecutionGroup(final String dataSourceName, final List<ExecutionUnit> executionUnits, final C connection, final ConnectionMode connectionMode) throws SQLException {
         List<T> inputs = new LinkedList<>();
         DatabaseType databaseType = storageUnits.get(dataSourceName).getStorageType();
-        for (ExecutionUnit each : executionUnits) {
-            inputs.add((T) sqlExecutionUnitBuilder.build(each, statementManager, connection, connectionMode, option, databaseType));
+        Iterator<ExecutionUnit> iterator = executionUnits.iterator();
+        while (iterator.hasNext()) {
+            ExecutionUnit each = iterator.next();
+            // The last unit on a connection is not followed by another statement, so it can stream instead of loading into memory
+            ConnectionMode unitConnectionMode = iterator.hasNext() ? connectionMode : ConnectionMode.MEMORY_STRICTLY;
+            inputs.add((T) sqlExecutionUnitBuilder.build(each, statementManager, connection, unitConnectionMode, option, databaseType));
         }
         return new ExecutionGroup<>(inputs);
     }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionTimeoutException;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -27,12 +28,19 @@ import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
 class ExecutorEngineTest {
@@ -88,4 +96,32 @@ class ExecutorEngineTest {
         latch.await();
         assertThat(actual.size(), is(4));
     }
+    
+    @Test
+    void assertExecuteAsync() throws InterruptedException, ExecutionException {
+        AtomicInteger consumedGroupCount = new AtomicInteger();
+        List<String> actual = executorEngine.executeAsync(executionGroupContext, callback, groupResults -> consumedGroupCount.incrementAndGet(), 0L).get();
+        latch.await();
+        assertThat(actual.size(), is(4));
+        assertThat(consumedGroupCount.get(), is(2));
+    }
+    
+    @Test
+    void assertExecuteAsyncWithTimeout() {
+        ExecutionException actual = assertThrows(ExecutionException.class, () -> executorEngine.<Object, String>executeAsync(executionGroupContext, (inputs, isTrunkThread, processId) -> {
+            LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(5L));
+            return Collections.emptyList();
+        }, groupResults -> {
+        }, 10L).get());
+        assertThat(actual.getCause(), instanceOf(SQLExecutionTimeoutException.class));
+    }
+    
+    @Test
+    void assertExecuteAsyncWithSQLException() {
+        ExecutionException actual = assertThrows(ExecutionException.class, () -> executorEngine.<Object, String>executeAsync(executionGroupContext, (inputs, isTrunkThread, processId) -> {
+            throw new SQLException("foo");
+        }, groupResults -> {
+        }, 0L).get());
+        assertThat(actual.getCause(), instanceOf(SQLException.class));
+    }
 }
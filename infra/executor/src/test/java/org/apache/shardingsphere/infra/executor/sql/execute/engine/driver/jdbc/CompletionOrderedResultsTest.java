@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
+
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionInterruptedException;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompletionOrderedResultsTest {
+    
+    @Test
+    void assertGetInCompletionOrder() {
+        CompletionOrderedResults<Integer> actual = new CompletionOrderedResults<>(3);
+        CompletableFuture<List<Integer>> future = new CompletableFuture<>();
+        actual.bind(future);
+        actual.append(Collections.singleton(2));
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0), is(2));
+        actual.append(Arrays.asList(0, 1));
+        future.complete(Arrays.asList(0, 1, 2));
+        assertThat(actual.get(1), is(0));
+        assertThat(actual.get(2), is(1));
+    }
+    
+    @Test
+    void assertGetBlocksUntilGroupArrives() throws InterruptedException {
+        CompletionOrderedResults<Integer> actual = new CompletionOrderedResults<>(1);
+        CompletableFuture<List<Integer>> future = new CompletableFuture<>();
+        actual.bind(future);
+        Thread producer = new Thread(() -> {
+            actual.append(Collections.singleton(1));
+            future.complete(Collections.singletonList(1));
+        });
+        producer.start();
+        assertThat(actual.get(0), is(1));
+        producer.join();
+    }
+    
+    @Test
+    void assertGetWithFailedGroup() {
+        CompletionOrderedResults<Integer> actual = new CompletionOrderedResults<>(2);
+        CompletableFuture<List<Integer>> future = new CompletableFuture<>();
+        actual.bind(future);
+        actual.append(Collections.singleton(1));
+        future.completeExceptionally(new SQLException("failed"));
+        assertThat(actual.get(0), is(1));
+        assertThrows(SQLWrapperException.class, () -> actual.get(1));
+    }
+    
+    @Test
+    void assertClose() {
+        CompletionOrderedResults<Integer> actual = new CompletionOrderedResults<>(1);
+        CompletableFuture<List<Integer>> future = new CompletableFuture<>();
+        actual.bind(future);
+        AtomicBoolean completed = new AtomicBoolean();
+        actual.whenComplete(() -> completed.set(true));
+        actual.close();
+        assertTrue(future.isCancelled());
+        assertTrue(completed.get());
+        assertThrows(SQLExecutionInterruptedException.class, () -> actual.get(0));
+    }
+}
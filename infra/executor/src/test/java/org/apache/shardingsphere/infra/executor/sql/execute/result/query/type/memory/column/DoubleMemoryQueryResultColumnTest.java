@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DoubleMemoryQueryResultColumnTest {
+    
+    @Test
+    void assertAddAndGetDoubleValues() {
+        DoubleMemoryQueryResultColumn column = new DoubleMemoryQueryResultColumn();
+        assertTrue(column.add(1.5D));
+        assertTrue(column.add(null));
+        assertThat(column.get(0), is(1.5D));
+        assertNull(column.get(1));
+    }
+    
+    @Test
+    void assertAddAndGetFloatValues() {
+        DoubleMemoryQueryResultColumn column = new DoubleMemoryQueryResultColumn();
+        assertTrue(column.add(1.5F));
+        assertThat(column.get(0), is(1.5F));
+    }
+    
+    @Test
+    void assertAddWithUnsupportedValueType() {
+        assertFalse(new DoubleMemoryQueryResultColumn().add(1L));
+    }
+}
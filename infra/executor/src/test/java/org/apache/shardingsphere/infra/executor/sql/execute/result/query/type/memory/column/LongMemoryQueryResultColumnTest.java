@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongMemoryQueryResultColumnTest {
+    
+    @Test
+    void assertAddAndGetLongValues() {
+        LongMemoryQueryResultColumn column = new LongMemoryQueryResultColumn();
+        for (long i = 0L; i < 100L; i++) {
+            assertTrue(column.add(i));
+        }
+        assertTrue(column.add(null));
+        assertThat(column.size(), is(101));
+        assertThat(column.get(99), is(99L));
+        assertNull(column.get(100));
+    }
+    
+    @Test
+    void assertAddAndGetIntegerValues() {
+        LongMemoryQueryResultColumn column = new LongMemoryQueryResultColumn();
+        assertTrue(column.add(null));
+        assertTrue(column.add(1));
+        assertNull(column.get(0));
+        assertThat(column.get(1), is(1));
+    }
+    
+    @Test
+    void assertAddWithDifferentValueType() {
+        LongMemoryQueryResultColumn column = new LongMemoryQueryResultColumn();
+        assertTrue(column.add(1));
+        assertFalse(column.add(1L));
+        assertThat(column.size(), is(1));
+    }
+    
+    @Test
+    void assertAddWithUnsupportedValueType() {
+        assertFalse(new LongMemoryQueryResultColumn().add("foo"));
+    }
+}
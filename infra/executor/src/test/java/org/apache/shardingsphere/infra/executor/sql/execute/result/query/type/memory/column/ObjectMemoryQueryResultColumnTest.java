@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ObjectMemoryQueryResultColumnTest {
+    
+    @Test
+    void assertAddAndGet() {
+        ObjectMemoryQueryResultColumn column = new ObjectMemoryQueryResultColumn();
+        for (int i = 0; i < 20; i++) {
+            column.add("foo_" + i);
+        }
+        column.add(null);
+        assertThat(column.size(), is(21));
+        assertThat(column.get(19), is("foo_19"));
+        assertNull(column.get(20));
+    }
+    
+    @Test
+    void assertNewInstanceWithColumn() {
+        LongMemoryQueryResultColumn originalColumn = new LongMemoryQueryResultColumn();
+        originalColumn.add(1);
+        originalColumn.add(null);
+        ObjectMemoryQueryResultColumn actual = new ObjectMemoryQueryResultColumn(originalColumn);
+        actual.add(2L);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0), is(1));
+        assertNull(actual.get(1));
+        assertThat(actual.get(2), is(2L));
+    }
+}
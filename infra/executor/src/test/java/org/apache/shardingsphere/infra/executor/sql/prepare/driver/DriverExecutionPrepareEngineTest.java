@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCStatementManager;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DriverExecutionPrepareEngineTest {
+    
+    @Mock
+    private DatabaseConnectionManager<Connection> databaseConnectionManager;
+    
+    @Mock
+    private ExecutorJDBCStatementManager statementManager;
+    
+    @Test
+    void assertPrepareWithMemoryStrictly() throws SQLException {
+        when(databaseConnectionManager.getConnections("ds_0", 0, 2, ConnectionMode.MEMORY_STRICTLY)).thenReturn(Arrays.asList(mock(Connection.class), mock(Connection.class)));
+        assertThat(getConnectionModes(prepare(2, createExecutionUnits(2))), is(Arrays.asList(ConnectionMode.MEMORY_STRICTLY, ConnectionMode.MEMORY_STRICTLY)));
+    }
+    
+    @Test
+    void assertPrepareWithConnectionStrictly() throws SQLException {
+        when(databaseConnectionManager.getConnections("ds_0", 0, 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(mock(Connection.class)));
+        assertThat(getConnectionModes(prepare(1, createExecutionUnits(3))), is(Arrays.asList(ConnectionMode.CONNECTION_STRICTLY, ConnectionMode.CONNECTION_STRICTLY, ConnectionMode.MEMORY_STRICTLY)));
+    }
+    
+    private Collection<ExecutionUnit> createExecutionUnits(final int count) {
+        Collection<ExecutionUnit> result = new LinkedList<>();
+        for (int i = 0; i < count; i++) {
+            result.add(new ExecutionUnit("ds_0", new SQLUnit("SELECT * FROM t_order_" + i, Collections.emptyList())));
+        }
+        return result;
+    }
+    
+    private ExecutionGroupContext<JDBCExecutionUnit> prepare(final int maxConnectionsSizePerQuery, final Collection<ExecutionUnit> executionUnits) throws SQLException {
+        StorageUnit storageUnit = mock(StorageUnit.class);
+        when(storageUnit.getStorageType()).thenReturn(mock(DatabaseType.class));
+        when(statementManager.createStorageResource(any(Connection.class), any(ConnectionMode.class), any(StatementOption.class), any())).thenReturn(mock(Statement.class));
+        DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> engine = new DriverExecutionPrepareEngine<>(JDBCDriverType.STATEMENT, maxConnectionsSizePerQuery, databaseConnectionManager,
+                statementManager, new StatementOption(false), Collections.emptyList(), Collections.singletonMap("ds_0", storageUnit));
+        return engine.prepare(new RouteContext(), executionUnits, new ExecutionGroupReportContext("foo_process", "foo_db", new Grantee("root", "")));
+    }
+    
+    private List<ConnectionMode> getConnectionModes(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) {
+        List<ConnectionMode> result = new LinkedList<>();
+        for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit eachUnit : each.getInputs()) {
+                result.add(eachUnit.getConnectionMode());
+            }
+        }
+        return result;
+    }
+}
@@ -40,7 +40,7 @@ public final class InlineExpressionParserFactory {
      *
      * @see groovy.lang.Closure
      */
-    private static final String DEFAULT_TYPE_NAME = null == System.getProperty("org.graalvm.nativeimage.imagecode") ? "GROOVY" : "LITERAL";
+    private static final String DEFAULT_TYPE_NAME = null == System.getProperty("org.graalvm.nativeimage.imagecode") ? "COMPILED" : "LITERAL";
     
     /**
      * Create new instance of inline expression parser by inlineExpression.
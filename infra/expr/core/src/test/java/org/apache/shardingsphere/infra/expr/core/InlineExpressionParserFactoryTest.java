@@ -30,7 +30,7 @@ class InlineExpressionParserFactoryTest {
     
     @Test
     void assertNewInstance() {
-        assertThat(InlineExpressionParserFactory.newInstance("t_order_0, t_order_1").getType(), is("GROOVY"));
+        assertThat(InlineExpressionParserFactory.newInstance("t_order_0, t_order_1").getType(), is("COMPILED"));
         assertThat(InlineExpressionParserFactory.newInstance("t_order_0, t_order_1").handlePlaceHolder(), is("t_order_0, t_order_1"));
         assertThat(InlineExpressionParserFactory.newInstance("<GROOVY>t_order_0, t_order_1").getType(), is("GROOVY"));
         assertThat(InlineExpressionParserFactory.newInstance("<GROOVY>t_order_0, t_order_1").handlePlaceHolder(), is("t_order_0, t_order_1"));
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.compiled;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.expr.compiled.node.ExpressionNode;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ */
+@RequiredArgsConstructor
+public final class CompiledInlineExpression {
+    
+    private final Collection<ExpressionNode> segments;
+    
+    /**
+     * Evaluate with arguments.
+     *
+     * @param args arguments
+     * @return evaluated result, empty if any segment can not be evaluated without Groovy
+     */
+    public Optional<String> evaluate(final Map<String, Comparable<?>> args) {
+        StringBuilder result = new StringBuilder();
+        for (ExpressionNode each : segments) {
+            Object value = each.evaluate(args);
+            if (null == value) {
+                return Optional.empty();
+            }
+            result.append(value);
+        }
+        return Optional.of(result.toString());
+    }
+}
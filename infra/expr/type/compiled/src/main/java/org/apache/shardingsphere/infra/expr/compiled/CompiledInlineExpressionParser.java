@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.compiled;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.infra.expr.groovy.GroovyInlineExpressionParser;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Compiled inline expression parser.
+ * 
+ * <p>Common expressions are compiled once and evaluated without Groovy, others fall back to {@link GroovyInlineExpressionParser}.</p>
+ */
+public final class CompiledInlineExpressionParser implements InlineExpressionParser {
+    
+    private static final String INLINE_EXPRESSION_KEY = "inlineExpression";
+    
+    private static final int MAXIMUM_SIZE = 4096;
+    
+    private static final Cache<String, Optional<CompiledInlineExpression>> COMPILED_EXPRESSIONS = Caffeine.newBuilder().maximumSize(MAXIMUM_SIZE).build();
+    
+    private final GroovyInlineExpressionParser groovyParser = new GroovyInlineExpressionParser();
+    
+    private CompiledInlineExpression compiledExpression;
+    
+    @Override
+    public void init(final Properties props) {
+        groovyParser.init(props);
+        String inlineExpression = props.getProperty(INLINE_EXPRESSION_KEY);
+        if (null != inlineExpression) {
+            compiledExpression = COMPILED_EXPRESSIONS.get(groovyParser.handlePlaceHolder(), InlineExpressionCompiler::compile).orElse(null);
+        }
+    }
+    
+    @Override
+    public String handlePlaceHolder() {
+        return groovyParser.handlePlaceHolder();
+    }
+    
+    @Override
+    public List<String> splitAndEvaluate() {
+        return groovyParser.splitAndEvaluate();
+    }
+    
+    @Override
+    public String evaluateWithArgs(final Map<String, Comparable<?>> map) {
+        if (null != compiledExpression) {
+            Optional<String> result = compiledExpression.evaluate(map);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        return groovyParser.evaluateWithArgs(map);
+    }
+    
+    @Override
+    public String getType() {
+        return "COMPILED";
+    }
+}
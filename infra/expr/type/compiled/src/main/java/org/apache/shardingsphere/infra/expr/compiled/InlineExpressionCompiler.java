@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.compiled;
+
+import org.apache.shardingsphere.infra.expr.compiled.node.BinaryOperationNode;
+import org.apache.shardingsphere.infra.expr.compiled.node.ConstantNode;
+import org.apache.shardingsphere.infra.expr.compiled.node.ExpressionNode;
+import org.apache.shardingsphere.infra.expr.compiled.node.UnaryOperationNode;
+import org.apache.shardingsphere.infra.expr.compiled.node.UnaryOperationNode.UnaryOperator;
+import org.apache.shardingsphere.infra.expr.compiled.node.VariableNode;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Optional;
+
+/**
+ * Inline expression compiler.
+ * 
+ * <p>Only supports the common subset of Groovy syntax used by sharding algorithms,
+ * which are variables, integer and string literals, {@code + - * %}, {@code Math.abs()} and {@code hashCode()}.</p>
+ */
+public final class InlineExpressionCompiler {
+    
+    private static final Collection<String> KEYWORDS = new HashSet<>(Arrays.asList(
+            "as", "class", "def", "else", "false", "if", "in", "instanceof", "it", "new", "null", "return", "super", "this", "true"));
+    
+    private static final String ABS_FUNCTION = "Math.abs";
+    
+    private static final String HASH_CODE_METHOD = ".hashCode()";
+    
+    private final String expression;
+    
+    private int position;
+    
+    private InlineExpressionCompiler(final String expression) {
+        this.expression = expression;
+    }
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $}
+     * @return compiled inline expression, empty if the inline expression is not supported
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        Collection<ExpressionNode> segments = new LinkedList<>();
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+        while (index < inlineExpression.length()) {
+            char each = inlineExpression.charAt(index);
+            if ('$' == each) {
+                int endIndex = findClosingBrace(inlineExpression, index + 1);
+                if (-1 == endIndex) {
+                    return Optional.empty();
+                }
+                ExpressionNode node = new InlineExpressionCompiler(inlineExpression.substring(index + 2, endIndex)).parse();
+                if (null == node) {
+                    return Optional.empty();
+                }
+                if (0 != literal.length()) {
+                    segments.add(new ConstantNode(literal.toString()));
+                    literal.setLength(0);
+                }
+                segments.add(node);
+                index = endIndex + 1;
+                continue;
+            }
+            // Those characters have special meanings inside Groovy double-quoted strings
+            if ('\\' == each || '"' == each || '\n' == each || '\r' == each) {
+                return Optional.empty();
+            }
+            literal.append(each);
+            index++;
+        }
+        if (0 != literal.length()) {
+            segments.add(new ConstantNode(literal.toString()));
+        }
+        return Optional.of(new CompiledInlineExpression(segments));
+    }
+    
+    private static int findClosingBrace(final String inlineExpression, final int beginIndex) {
+        if (beginIndex >= inlineExpression.length() || '{' != inlineExpression.charAt(beginIndex)) {
+            return -1;
+        }
+        boolean quoted = false;
+        for (int i = beginIndex + 1; i < inlineExpression.length(); i++) {
+            char each = inlineExpression.charAt(i);
+            if ('\\' == each) {
+                return -1;
+            }
+            if ('\'' == each) {
+                quoted = !quoted;
+            } else if (!quoted && '{' == each) {
+                return -1;
+            } else if (!quoted && '}' == each) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private ExpressionNode parse() {
+        ExpressionNode result = parseAdditive();
+        skipWhitespace();
+        return position == expression.length() ? result : null;
+    }
+    
+    private ExpressionNode parseAdditive() {
+        ExpressionNode result = parseMultiplicative();
+        while (null != result) {
+            skipWhitespace();
+            char operator = peek();
+            if ('+' != operator && '-' != operator) {
+                return result;
+            }
+            position++;
+            // Increment, decrement and compound assignment operators are left to Groovy
+            if (operator == peek() || '=' == peek()) {
+                return null;
+            }
+            ExpressionNode right = parseMultiplicative();
+            result = null == right ? null : new BinaryOperationNode(operator, result, right);
+        }
+        return null;
+    }
+    
+    private ExpressionNode parseMultiplicative() {
+        ExpressionNode result = parseUnary();
+        while (null != result) {
+            skipWhitespace();
+            char operator = peek();
+            if ('*' != operator && '%' != operator) {
+                return result;
+            }
+            position++;
+            // Power and compound assignment operators are left to Groovy
+            if ('*' == peek() || '=' == peek()) {
+                return null;
+            }
+            ExpressionNode right = parseUnary();
+            result = null == right ? null : new BinaryOperationNode(operator, result, right);
+        }
+        return null;
+    }
+    
+    private ExpressionNode parseUnary() {
+        skipWhitespace();
+        if ('-' != peek()) {
+            return parsePostfix();
+        }
+        position++;
+        if ('-' == peek()) {
+            return null;
+        }
+        ExpressionNode operand = parseUnary();
+        return null == operand ? null : new UnaryOperationNode(UnaryOperator.NEGATE, operand);
+    }
+    
+    private ExpressionNode parsePostfix() {
+        ExpressionNode result = parsePrimary();
+        while (null != result) {
+            skipWhitespace();
+            if ('.' != peek()) {
+                return result;
+            }
+            if (!expression.startsWith(HASH_CODE_METHOD, position)) {
+                return null;
+            }
+            position += HASH_CODE_METHOD.length();
+            result = new UnaryOperationNode(UnaryOperator.HASH_CODE, result);
+        }
+        return null;
+    }
+    
+    private ExpressionNode parsePrimary() {
+        skipWhitespace();
+        char current = peek();
+        if ('(' == current) {
+            position++;
+            return parseEnclosed();
+        }
+        if (isDigit(current)) {
+            return parseInteger();
+        }
+        if ('\'' == current) {
+            return parseString();
+        }
+        if (expression.startsWith(ABS_FUNCTION, position)) {
+            position += ABS_FUNCTION.length();
+            skipWhitespace();
+            if ('(' != peek()) {
+                return null;
+            }
+            position++;
+            ExpressionNode operand = parseEnclosed();
+            return null == operand ? null : new UnaryOperationNode(UnaryOperator.ABS, operand);
+        }
+        return parseVariable();
+    }
+    
+    private ExpressionNode parseEnclosed() {
+        ExpressionNode result = parseAdditive();
+        skipWhitespace();
+        if (null == result || ')' != peek()) {
+            return null;
+        }
+        position++;
+        return result;
+    }
+    
+    private ExpressionNode parseInteger() {
+        int beginIndex = position;
+        while (isDigit(peek())) {
+            position++;
+        }
+        String literal = expression.substring(beginIndex, position);
+        // Leading zero means octal, and suffix or decimal point changes the type in Groovy
+        if ((literal.length() > 1 && '0' == literal.charAt(0)) || Character.isLetter(peek()) || '_' == peek() || ('.' == peek() && isDigit(peekNext()))) {
+            return null;
+        }
+        try {
+            long value = Long.parseLong(literal);
+            return new ConstantNode(value <= Integer.MAX_VALUE ? Integer.valueOf((int) value) : Long.valueOf(value));
+        } catch (final NumberFormatException ignored) {
+            return null;
+        }
+    }
+    
+    private ExpressionNode parseString() {
+        int endIndex = expression.indexOf('\'', position + 1);
+        if (-1 == endIndex) {
+            return null;
+        }
+        String value = expression.substring(position + 1, endIndex);
+        position = endIndex + 1;
+        return new ConstantNode(value);
+    }
+    
+    private ExpressionNode parseVariable() {
+        int beginIndex = position;
+        if (!Character.isLetter(peek()) && '_' != peek()) {
+            return null;
+        }
+        while (Character.isLetterOrDigit(peek()) || '_' == peek()) {
+            position++;
+        }
+        String name = expression.substring(beginIndex, position);
+        skipWhitespace();
+        if (KEYWORDS.contains(name) || '(' == peek()) {
+            return null;
+        }
+        return new VariableNode(name);
+    }
+    
+    private boolean isDigit(final char value) {
+        return value >= '0' && value <= '9';
+    }
+    
+    private void skipWhitespace() {
+        while (' ' == peek() || '\t' == peek()) {
+            position++;
+        }
+    }
+    
+    private char peek() {
+        return position < expression.length() ? expression.charAt(position) : 0;
+    }
+    
+    private char peekNext() {
+        return position + 1 < expression.length() ? expression.charAt(position + 1) : 0;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.compiled.node;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Unary operation expression node.
+ */
+@RequiredArgsConstructor
+public final class UnaryOperationNode implements ExpressionNode {
+    
+    private final UnaryOperator operator;
+    
+    private final ExpressionNode operand;
+    
+    @Override
+    public Object evaluate(final Map<String, Comparable<?>> args) {
+        Object value = operand.evaluate(args);
+        if (null == value) {
+            return null;
+        }
+        switch (operator) {
+            case NEGATE:
+                return negate(value);
+            case ABS:
+                return abs(value);
+            case HASH_CODE:
+                return value.hashCode();
+            default:
+                return null;
+        }
+    }
+    
+    private Object negate(final Object value) {
+        if (value instanceof Integer) {
+            return -(Integer) value;
+        }
+        return value instanceof Long ? -(Long) value : null;
+    }
+    
+    private Object abs(final Object value) {
+        if (value instanceof Integer) {
+            return Math.abs((Integer) value);
+        }
+        return value instanceof Long ? Math.abs((Long) value) : null;
+    }
+    
+    /**
+     * Unary operator.
+     */
+    public enum UnaryOperator {
+        
+        NEGATE, ABS, HASH_CODE
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.compiled;
+
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledInlineExpressionParserTest {
+    
+    @Test
+    void assertCompile() {
+        assertTrue(InlineExpressionCompiler.compile("t_order_${user_id % 16}").isPresent());
+        assertTrue(InlineExpressionCompiler.compile("t_order_${Math.abs(order_id.hashCode()) % 4}").isPresent());
+        assertTrue(InlineExpressionCompiler.compile("ds_${(user_id + 1) * 2 - 3}_${'x' + order_id}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${0..1}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${user_id / 2}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${user_id.toString()}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${user_id++}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${010}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_$user_id").isPresent());
+    }
+    
+    @Test
+    void assertEvaluateWithArgs() {
+        assertEvaluateWithArgs("t_order_${user_id % 16}", Collections.singletonMap("user_id", 37));
+        assertEvaluateWithArgs("t_order_$->{user_id % 16}", Collections.singletonMap("user_id", 37L));
+        assertEvaluateWithArgs("t_order_${user_id % 16}", Collections.singletonMap("user_id", -37));
+        assertEvaluateWithArgs("t_order_${user_id * 31 + 7}", Collections.singletonMap("user_id", Integer.MAX_VALUE));
+        assertEvaluateWithArgs("t_order_${Math.abs(order_id.hashCode()) % 4}", Collections.singletonMap("order_id", "order_10086"));
+        assertEvaluateWithArgs("t_order_${-user_id.hashCode() % 3}", Collections.singletonMap("user_id", 1234567890123L));
+        assertEvaluateWithArgs("ds_${'x' + user_id}_${user_id + 'y'}", Collections.singletonMap("user_id", (short) 5));
+        Map<String, Comparable<?>> args = new HashMap<>(2, 1F);
+        args.put("user_id", 3);
+        args.put("order_id", 4L);
+        assertEvaluateWithArgs("ds_${user_id % 2}.t_order_${(user_id + order_id) % 2}", args);
+    }
+    
+    @Test
+    void assertEvaluateWithArgsFallbackToGroovy() {
+        assertEvaluateWithArgs("t_order_${user_id % 16}", Collections.singletonMap("user_id", 3.5D));
+        assertEvaluateWithArgs("t_order_${user_id}", Collections.singletonMap("order_id", 1));
+        assertEvaluateWithArgs("t_order_${user_id / 2}", Collections.singletonMap("user_id", 7));
+        assertEvaluateWithArgs("t_order_${[user_id, 1][0]}", Collections.singletonMap("user_id", 7));
+    }
+    
+    private void assertEvaluateWithArgs(final String inlineExpression, final Map<String, Comparable<?>> args) {
+        assertThat(createParser("COMPILED", inlineExpression).evaluateWithArgs(args), is(createParser("GROOVY", inlineExpression).evaluateWithArgs(args)));
+    }
+    
+    @Test
+    void assertSplitAndEvaluate() {
+        assertThat(createParser("COMPILED", "t_order_${0..2}").splitAndEvaluate(), is(Arrays.asList("t_order_0", "t_order_1", "t_order_2")));
+    }
+    
+    @Test
+    void assertHandlePlaceHolder() {
+        assertThat(createParser("COMPILED", "t_order_$->{user_id % 2}").handlePlaceHolder(), is("t_order_${user_id % 2}"));
+    }
+    
+    private InlineExpressionParser createParser(final String type, final String inlineExpression) {
+        return TypedSPILoader.getService(InlineExpressionParser.class, type, PropertiesBuilder.build(new PropertiesBuilder.Property(InlineExpressionParser.INLINE_EXPRESSION_KEY, inlineExpression)));
+    }
+}
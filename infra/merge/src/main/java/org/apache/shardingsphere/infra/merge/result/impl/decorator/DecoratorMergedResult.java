@@ -31,7 +31,7 @@ import java.util.Calendar;
  */
 @RequiredArgsConstructor
 @Getter
-public abstract class DecoratorMergedResult implements MergedResult {
+public abstract class DecoratorMergedResult implements MergedResult, AutoCloseable {
     
     private final MergedResult mergedResult;
     
@@ -59,4 +59,11 @@ public abstract class DecoratorMergedResult implements MergedResult {
     public final boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws Exception {
+        if (mergedResult instanceof AutoCloseable) {
+            ((AutoCloseable) mergedResult).close();
+        }
+    }
 }
@@ -61,6 +61,10 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
         }
     }
     
+    protected MemoryMergedResult(final Iterator<MemoryQueryResultRow> memoryResultSetRows) {
+        this.memoryResultSetRows = memoryResultSetRows;
+    }
+    
     protected abstract List<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
     
     @Override
@@ -32,8 +32,8 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.generator.builder.Defau
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -52,7 +52,7 @@ public final class SQLRewriteContext {
     
     private final ParameterBuilder parameterBuilder;
     
-    private final List<SQLToken> sqlTokens = new LinkedList<>();
+    private final List<SQLToken> sqlTokens = new ArrayList<>();
     
     @Getter(AccessLevel.NONE)
     private final SQLTokenGenerators sqlTokenGenerators = new SQLTokenGenerators();
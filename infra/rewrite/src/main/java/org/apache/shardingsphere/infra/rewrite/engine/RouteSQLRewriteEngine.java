@@ -18,6 +18,11 @@
 package org.apache.shardingsphere.infra.rewrite.engine;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -35,17 +40,23 @@ import org.apache.shardingsphere.infra.rewrite.sql.impl.RouteSQLBuilder;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtils;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 import org.apache.shardingsphere.sqltranslator.context.SQLTranslatorContext;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 
 /**
  * Route SQL rewrite engine.
@@ -53,6 +64,10 @@ import java.util.Map.Entry;
 @RequiredArgsConstructor
 public final class RouteSQLRewriteEngine {
     
+    private static final Collection<String> ORDERED_AGGREGATE_REWRITE_DATABASE_TYPES = new HashSet<>(Arrays.asList("MySQL", "PostgreSQL", "openGauss"));
+    
+    private static final String ORDERED_AGGREGATE_DERIVED_TABLE_NAME = "shardingsphere_union_derived";
+    
     private final SQLTranslatorRule translatorRule;
     
     private final ShardingSphereDatabase database;
@@ -69,10 +84,13 @@ public final class RouteSQLRewriteEngine {
      */
     public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final QueryContext queryContext) {
         Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1F);
-        for (Entry<String, Collection<RouteUnit>> entry : aggregateRouteUnitGroups(routeContext.getRouteUnits()).entrySet()) {
+        Map<String, Collection<RouteUnit>> routeUnitGroups = aggregateRouteUnitGroups(routeContext.getRouteUnits());
+        for (Entry<String, Collection<RouteUnit>> entry : routeUnitGroups.entrySet()) {
             Collection<RouteUnit> routeUnits = entry.getValue();
             if (isNeedAggregateRewrite(sqlRewriteContext.getSqlStatementContext(), routeUnits)) {
                 sqlRewriteUnits.put(routeUnits.iterator().next(), createSQLRewriteUnit(sqlRewriteContext, routeContext, routeUnits));
+            } else if (isNeedOrderedAggregateRewrite(sqlRewriteContext.getSqlStatementContext(), routeUnits)) {
+                sqlRewriteUnits.put(routeUnits.iterator().next(), createOrderedSQLRewriteUnit(sqlRewriteContext, routeContext, routeUnits, 1 == routeUnitGroups.size()));
             } else {
                 addSQLRewriteUnits(sqlRewriteUnits, sqlRewriteContext, routeContext, routeUnits);
             }
@@ -83,6 +101,32 @@ public final class RouteSQLRewriteEngine {
     private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
         Collection<String> sql = new LinkedList<>();
         List<Object> params = new LinkedList<>();
+        buildUnionSQLAndParameters(sqlRewriteContext, routeContext, routeUnits, sql, params);
+        return new SQLRewriteUnit(String.join(" UNION ALL ", sql), params);
+    }
+    
+    private SQLRewriteUnit createOrderedSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext,
+                                                       final Collection<RouteUnit> routeUnits, final boolean isSingleDataSource) {
+        Collection<String> sql = new LinkedList<>();
+        List<Object> params = new LinkedList<>();
+        buildUnionSQLAndParameters(sqlRewriteContext, routeContext, routeUnits, sql, params);
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlRewriteContext.getSqlStatementContext();
+        StringBuilder result = new StringBuilder("SELECT * FROM ((").append(String.join(") UNION ALL (", sql)).append(")) AS ").append(ORDERED_AGGREGATE_DERIVED_TABLE_NAME);
+        Collection<OrderByItem> orderByItems = selectStatementContext.getOrderByContext().getItems();
+        if (!orderByItems.isEmpty()) {
+            result.append(" ORDER BY ").append(orderByItems.stream().map(this::getOrderByItemText).collect(Collectors.joining(", ")));
+        }
+        PaginationContext paginationContext = selectStatementContext.getPaginationContext();
+        if (isSingleDataSource) {
+            result.append(" LIMIT ").append(paginationContext.getActualRowCount().get()).append(" OFFSET ").append(paginationContext.getActualOffset());
+        } else {
+            result.append(" LIMIT ").append(paginationContext.getRevisedRowCount(selectStatementContext));
+        }
+        return new SQLRewriteUnit(result.toString(), params);
+    }
+    
+    private void buildUnionSQLAndParameters(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits,
+                                            final Collection<String> sql, final List<Object> params) {
         boolean containsDollarMarker = sqlRewriteContext.getSqlStatementContext() instanceof SelectStatementContext
                 && ((SelectStatementContext) (sqlRewriteContext.getSqlStatementContext())).isContainsDollarParameterMarker();
         for (RouteUnit each : routeUnits) {
@@ -92,7 +136,14 @@ public final class RouteSQLRewriteEngine {
             }
             params.addAll(getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each));
         }
-        return new SQLRewriteUnit(String.join(" UNION ALL ", sql), params);
+    }
+    
+    private String getOrderByItemText(final OrderByItem orderByItem) {
+        OrderByItemSegment segment = orderByItem.getSegment();
+        String columnText = segment instanceof IndexOrderByItemSegment
+                ? String.valueOf(((IndexOrderByItemSegment) segment).getColumnIndex())
+                : ((ColumnOrderByItemSegment) segment).getColumn().getIdentifier().getValueWithQuoteCharacters();
+        return columnText + " " + segment.getOrderDirection().name();
     }
     
     private void addSQLRewriteUnits(final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits, final SQLRewriteContext sqlRewriteContext,
@@ -116,6 +167,51 @@ public final class RouteSQLRewriteEngine {
         return needAggregateRewrite;
     }
     
+    private boolean isNeedOrderedAggregateRewrite(final SQLStatementContext sqlStatementContext, final Collection<RouteUnit> routeUnits) {
+        if (!(sqlStatementContext instanceof SelectStatementContext) || routeUnits.size() == 1) {
+            return false;
+        }
+        SelectStatementContext statementContext = (SelectStatementContext) sqlStatementContext;
+        DatabaseType databaseType = statementContext.getDatabaseType().getTrunkDatabaseType().orElse(statementContext.getDatabaseType());
+        if (!ORDERED_AGGREGATE_REWRITE_DATABASE_TYPES.contains(databaseType.getType()) || !SelectStatementHandler.getLimitSegment(statementContext.getSqlStatement()).isPresent()
+                || !statementContext.getPaginationContext().getActualRowCount().isPresent()) {
+            return false;
+        }
+        if (statementContext.isContainsSubquery() || statementContext.isContainsJoinQuery() || statementContext.isContainsCombine()
+                || SelectStatementHandler.getLockSegment(statementContext.getSqlStatement()).isPresent() || SelectStatementHandler.getWithSegment(statementContext.getSqlStatement()).isPresent()) {
+            return false;
+        }
+        ProjectionsContext projectionsContext = statementContext.getProjectionsContext();
+        if (!statementContext.getGroupByContext().getItems().isEmpty() || !projectionsContext.getAggregationProjections().isEmpty() || projectionsContext.isDistinctRow()) {
+            return false;
+        }
+        return !statementContext.getOrderByContext().isGenerated() && statementContext.getOrderByContext().getItems().stream().allMatch(each -> isOrderByItemProjected(projectionsContext, each));
+    }
+    
+    private boolean isOrderByItemProjected(final ProjectionsContext projectionsContext, final OrderByItem orderByItem) {
+        OrderByItemSegment segment = orderByItem.getSegment();
+        if (segment.getNullsOrderType().isPresent()) {
+            return false;
+        }
+        if (segment instanceof IndexOrderByItemSegment) {
+            return true;
+        }
+        if (!(segment instanceof ColumnOrderByItemSegment) || ((ColumnOrderByItemSegment) segment).getColumn().getOwner().isPresent()) {
+            return false;
+        }
+        if (projectionsContext.isUnqualifiedShorthandProjection()) {
+            return true;
+        }
+        String columnName = ((ColumnOrderByItemSegment) segment).getColumn().getIdentifier().getValue();
+        for (Projection each : projectionsContext.getProjections()) {
+            if (each.getAlias().isPresent() ? columnName.equalsIgnoreCase(each.getAlias().get().getValue())
+                    : each instanceof ColumnProjection && columnName.equalsIgnoreCase(((ColumnProjection) each).getName().getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     private Map<String, Collection<RouteUnit>> aggregateRouteUnitGroups(final Collection<RouteUnit> routeUnits) {
         Map<String, Collection<RouteUnit>> result = new LinkedHashMap<>(routeUnits.size(), 1F);
         for (RouteUnit each : routeUnits) {
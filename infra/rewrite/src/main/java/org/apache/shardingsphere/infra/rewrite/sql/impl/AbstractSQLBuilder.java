@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.Substituta
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -46,17 +47,21 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
             return sql;
         }
         Collections.sort(sqlTokens);
-        StringBuilder result = new StringBuilder();
-        result.append(sql, 0, sqlTokens.get(0).getStartIndex());
-        for (SQLToken each : sqlTokens) {
-            if (each instanceof ComposableSQLToken) {
-                result.append(getComposableSQLTokenText((ComposableSQLToken) each));
-            } else if (each instanceof SubstitutableColumnNameToken) {
-                result.append(((SubstitutableColumnNameToken) each).toString(routeUnit));
+        StringBuilder result = new StringBuilder(sql.length());
+        Iterator<SQLToken> iterator = sqlTokens.iterator();
+        SQLToken current = iterator.next();
+        result.append(sql, 0, current.getStartIndex());
+        while (null != current) {
+            SQLToken next = iterator.hasNext() ? iterator.next() : null;
+            if (current instanceof ComposableSQLToken) {
+                result.append(getComposableSQLTokenText((ComposableSQLToken) current));
+            } else if (current instanceof SubstitutableColumnNameToken) {
+                result.append(((SubstitutableColumnNameToken) current).toString(routeUnit));
             } else {
-                result.append(getSQLTokenText(each));
+                result.append(getSQLTokenText(current));
             }
-            result.append(getConjunctionText(each));
+            result.append(sql, getStartIndex(current), null == next ? sql.length() : next.getStartIndex());
+            current = next;
         }
         return result.toString();
     }
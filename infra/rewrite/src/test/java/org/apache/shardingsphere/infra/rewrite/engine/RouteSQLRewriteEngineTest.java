@@ -17,6 +17,12 @@
 
 package org.apache.shardingsphere.infra.rewrite.engine;
 
+import org.apache.shardingsphere.infra.binder.context.segment.select.groupby.GroupByContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ShorthandProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.CommonSQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
@@ -36,12 +42,20 @@ import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 import org.apache.shardingsphere.sqltranslator.rule.builder.DefaultSQLTranslatorRuleConfigurationBuilder;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -105,6 +119,69 @@ class RouteSQLRewriteEngineTest {
         assertThat(actual.getSqlRewriteUnits().get(firstRouteUnit).getParameters(), is(Arrays.asList(1, 1)));
     }
     
+    @Test
+    void assertRewriteWithStandardParameterBuilderWhenNeedOrderedAggregateRewriteOnSingleDataSource() {
+        SelectStatementContext statementContext = mockOrderedSelectStatementContext();
+        ShardingSphereDatabase database = mockDatabase(statementContext.getDatabaseType());
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(database, statementContext, "SELECT * FROM tbl ORDER BY id LIMIT 2, 10", Collections.emptyList(),
+                mock(ConnectionContext.class), new HintValueContext());
+        RouteContext routeContext = new RouteContext();
+        RouteUnit firstRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        RouteUnit secondRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_1")));
+        routeContext.getRouteUnits().add(firstRouteUnit);
+        routeContext.getRouteUnits().add(secondRouteUnit);
+        QueryContext queryContext = mock(QueryContext.class);
+        when(queryContext.getSqlStatementContext()).thenReturn(statementContext);
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(
+                new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()), database, mock(RuleMetaData.class)).rewrite(sqlRewriteContext, routeContext, queryContext);
+        assertThat(actual.getSqlRewriteUnits().size(), is(1));
+        assertThat(actual.getSqlRewriteUnits().get(firstRouteUnit).getSql(), is("SELECT * FROM ((SELECT * FROM tbl ORDER BY id LIMIT 2, 10) UNION ALL (SELECT * FROM tbl ORDER BY id LIMIT 2, 10))"
+                + " AS shardingsphere_union_derived ORDER BY id ASC LIMIT 10 OFFSET 2"));
+    }
+    
+    @Test
+    void assertRewriteWithStandardParameterBuilderWhenNeedOrderedAggregateRewriteOnMultipleDataSources() {
+        SelectStatementContext statementContext = mockOrderedSelectStatementContext();
+        ShardingSphereDatabase database = mockDatabase(statementContext.getDatabaseType());
+        StorageUnit storageUnit = mock(StorageUnit.class);
+        when(storageUnit.getStorageType()).thenReturn(statementContext.getDatabaseType());
+        Map<String, StorageUnit> storageUnits = new HashMap<>(2, 1F);
+        storageUnits.put("ds_0", storageUnit);
+        storageUnits.put("ds_1", storageUnit);
+        when(database.getResourceMetaData().getStorageUnits()).thenReturn(storageUnits);
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(database, statementContext, "SELECT * FROM tbl ORDER BY id LIMIT 2, 10", Collections.emptyList(),
+                mock(ConnectionContext.class), new HintValueContext());
+        RouteContext routeContext = new RouteContext();
+        RouteUnit firstRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        RouteUnit secondRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_1")));
+        RouteUnit thirdRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_1"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        routeContext.getRouteUnits().addAll(Arrays.asList(firstRouteUnit, secondRouteUnit, thirdRouteUnit));
+        QueryContext queryContext = mock(QueryContext.class);
+        when(queryContext.getSqlStatementContext()).thenReturn(statementContext);
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(
+                new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()), database, mock(RuleMetaData.class)).rewrite(sqlRewriteContext, routeContext, queryContext);
+        assertThat(actual.getSqlRewriteUnits().size(), is(2));
+        assertThat(actual.getSqlRewriteUnits().get(firstRouteUnit).getSql(), is("SELECT * FROM ((SELECT * FROM tbl ORDER BY id LIMIT 2, 10) UNION ALL (SELECT * FROM tbl ORDER BY id LIMIT 2, 10))"
+                + " AS shardingsphere_union_derived ORDER BY id ASC LIMIT 12"));
+        assertThat(actual.getSqlRewriteUnits().get(thirdRouteUnit).getSql(), is("SELECT * FROM tbl ORDER BY id LIMIT 2, 10"));
+    }
+    
+    private SelectStatementContext mockOrderedSelectStatementContext() {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        DatabaseType databaseType = mock(DatabaseType.class);
+        when(databaseType.getType()).thenReturn("MySQL");
+        when(result.getDatabaseType()).thenReturn(databaseType);
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setLimit(new LimitSegment(0, 0, new NumberLiteralLimitValueSegment(0, 0, 2L), new NumberLiteralLimitValueSegment(0, 0, 10L)));
+        when(result.getSqlStatement()).thenReturn(selectStatement);
+        when(result.getPaginationContext()).thenReturn(new PaginationContext(new NumberLiteralLimitValueSegment(0, 0, 2L), new NumberLiteralLimitValueSegment(0, 0, 10L), Collections.emptyList()));
+        when(result.getOrderByContext()).thenReturn(new OrderByContext(Collections.singletonList(
+                new OrderByItem(new ColumnOrderByItemSegment(new ColumnSegment(0, 0, new IdentifierValue("id")), OrderDirection.ASC, null))), false));
+        when(result.getGroupByContext()).thenReturn(new GroupByContext(Collections.emptyList()));
+        when(result.getProjectionsContext()).thenReturn(new ProjectionsContext(0, 0, false, Collections.singletonList(new ShorthandProjection(null, Collections.emptyList()))));
+        return result;
+    }
+    
     @Test
     void assertRewriteWithGroupedParameterBuilderForBroadcast() {
         InsertStatementContext statementContext = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
@@ -20,7 +20,9 @@ package org.apache.shardingsphere.infra.rewrite.sql.impl;
 import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -36,4 +38,10 @@ class DefaultSQLBuilderTest {
     void assertToSQLWithSQLToken() {
         assertThat(new DefaultSQLBuilder("SELECT * FROM tbl WHERE id=?", Collections.singletonList(new SQLTokenFixture(14, 16))).toSQL(), is("SELECT * FROM XXX WHERE id=?"));
     }
+    
+    @Test
+    void assertToSQLWithUnsortedSQLTokens() {
+        assertThat(new DefaultSQLBuilder("SELECT * FROM tbl WHERE id=? OR tbl.id=?", new LinkedList<>(Arrays.asList(new SQLTokenFixture(32, 34), new SQLTokenFixture(14, 16)))).toSQL(),
+                is("SELECT * FROM XXX WHERE id=? OR XXX.id=?"));
+    }
 }
@@ -25,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -42,11 +43,17 @@ public final class BatchExecutionUnit {
     
     private final ExecutionUnit executionUnit;
     
+    private final int coalescedRowCount;
+    
     private final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = new LinkedHashMap<>();
     
     @Getter(AccessLevel.NONE)
     private int actualCallAddBatchTimes;
     
+    public BatchExecutionUnit(final ExecutionUnit executionUnit) {
+        this(executionUnit, 1);
+    }
+    
     /**
      * Map times of use JDBC API call addBatch and times of actual call addBatch after route.
      *
@@ -56,6 +63,18 @@ public final class BatchExecutionUnit {
         jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
     }
     
+    /**
+     * Map times of use JDBC API call addBatch for rows coalesced into one actual call addBatch.
+     *
+     * @param jdbcAddBatchTimes times of use JDBC API call addBatch for coalesced rows
+     */
+    public void mapCoalescedAddBatchCount(final Collection<Integer> jdbcAddBatchTimes) {
+        for (Integer each : jdbcAddBatchTimes) {
+            jdbcAndActualAddBatchCallTimesMap.put(each, actualCallAddBatchTimes);
+        }
+        actualCallAddBatchTimes++;
+    }
+    
     /**
      * Get parameter sets.
      * 
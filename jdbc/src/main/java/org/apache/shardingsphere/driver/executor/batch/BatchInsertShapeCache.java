@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatementHandler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Shape cache of batch insert.
+ * 
+ * <p>Rows of single values INSERT added by batch share one statement shape, so the rewritten execution units are cached by route units in each batch.
+ * Each row is still routed to evaluate its sharding key parameters, and takes the cached execution units with its own parameters if its route units are cached.
+ * Execution units are cached only if rewrite keeps the parameters of row unchanged, so statements with encrypted or generated values are always rewritten.</p>
+ */
+public final class BatchInsertShapeCache {
+    
+    private final boolean cacheable;
+    
+    private final boolean coalescible;
+    
+    private final Map<Collection<RouteUnit>, Collection<ExecutionUnit>> executionUnits = new HashMap<>();
+    
+    private boolean disabled;
+    
+    private boolean allRowsCached = true;
+    
+    public BatchInsertShapeCache(final SQLStatementContext sqlStatementContext, final ConfigurationProperties props) {
+        cacheable = sqlStatementContext instanceof InsertStatementContext && isCacheable((InsertStatementContext) sqlStatementContext, props);
+        coalescible = cacheable && isCoalescible(((InsertStatementContext) sqlStatementContext).getSqlStatement());
+    }
+    
+    private boolean isCacheable(final InsertStatementContext sqlStatementContext, final ConfigurationProperties props) {
+        return !sqlStatementContext.getSqlStatement().getInsertSelect().isPresent() && 1 == sqlStatementContext.getValueExpressions().size()
+                && !props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW);
+    }
+    
+    private boolean isCoalescible(final InsertStatement insertStatement) {
+        return 1 == insertStatement.getValues().size() && !InsertStatementHandler.getOnDuplicateKeyColumnsSegment(insertStatement).isPresent()
+                && !InsertStatementHandler.getReturningSegment(insertStatement).isPresent() && !InsertStatementHandler.getOutputSegment(insertStatement).isPresent()
+                && insertStatement.getValues().iterator().next().getValues().stream().allMatch(ParameterMarkerExpressionSegment.class::isInstance);
+    }
+    
+    /**
+     * Judge whether current row can be added with shape cache.
+     *
+     * @return can be added with shape cache or not
+     */
+    public boolean isAvailable() {
+        return cacheable && !disabled && !HintManager.isInstantiated();
+    }
+    
+    /**
+     * Find cached execution units.
+     *
+     * @param routeContext route context of current row
+     * @param params parameters of current row
+     * @return found execution units with parameters of current row
+     */
+    public Optional<Collection<ExecutionUnit>> find(final RouteContext routeContext, final List<Object> params) {
+        Collection<ExecutionUnit> cachedExecutionUnits = executionUnits.get(new ArrayList<>(routeContext.getRouteUnits()));
+        if (null == cachedExecutionUnits) {
+            return Optional.empty();
+        }
+        Collection<ExecutionUnit> result = new ArrayList<>(cachedExecutionUnits.size());
+        for (ExecutionUnit each : cachedExecutionUnits) {
+            SQLUnit sqlUnit = each.getSqlUnit();
+            result.add(new ExecutionUnit(each.getDataSourceName(), new SQLUnit(sqlUnit.getSql(), params, sqlUnit.getTableRouteMappers())));
+        }
+        return Optional.of(result);
+    }
+    
+    /**
+     * Put execution units of rewritten row.
+     *
+     * @param executionContext execution context of current row
+     * @param params parameters of current row
+     */
+    public void put(final ExecutionContext executionContext, final List<Object> params) {
+        if (isGeneratedKey(executionContext) || !isParametersUnchanged(executionContext.getExecutionUnits(), params)) {
+            disabled = true;
+            allRowsCached = false;
+            return;
+        }
+        if (params.contains(null)) {
+            // rewriters may skip null values, so the row can not prove that its parameters are kept unchanged
+            allRowsCached = false;
+            return;
+        }
+        Collection<ExecutionUnit> cachedExecutionUnits = new ArrayList<>(executionContext.getExecutionUnits().size());
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            SQLUnit sqlUnit = each.getSqlUnit();
+            cachedExecutionUnits.add(new ExecutionUnit(each.getDataSourceName(), new SQLUnit(sqlUnit.getSql(), new ArrayList<>(0), sqlUnit.getTableRouteMappers())));
+        }
+        executionUnits.put(new ArrayList<>(executionContext.getRouteContext().getRouteUnits()), cachedExecutionUnits);
+        if (1 != cachedExecutionUnits.size()) {
+            allRowsCached = false;
+        }
+    }
+    
+    private boolean isGeneratedKey(final ExecutionContext executionContext) {
+        return executionContext.getSqlStatementContext() instanceof InsertStatementContext
+                && ((InsertStatementContext) executionContext.getSqlStatementContext()).getGeneratedKeyContext().map(GeneratedKeyContext::isGenerated).orElse(false);
+    }
+    
+    private boolean isParametersUnchanged(final Collection<ExecutionUnit> executionUnits, final List<Object> params) {
+        for (ExecutionUnit each : executionUnits) {
+            if (!params.equals(each.getSqlUnit().getParameters())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Mark current row is added without shape cache.
+     */
+    public void markRowNotCached() {
+        allRowsCached = false;
+    }
+    
+    /**
+     * Judge whether rows of current batch can be coalesced into multi values INSERT statements.
+     * 
+     * <p>Only rows routed to one execution unit with unchanged parameters can be coalesced, because update count of each row is calculated from update count of coalesced statement.</p>
+     *
+     * @return can be coalesced or not
+     */
+    public boolean isCoalescible() {
+        return coalescible && !disabled && allRowsCached;
+    }
+    
+    /**
+     * Clear cached execution units of current batch.
+     */
+    public void clear() {
+        executionUnits.clear();
+        allRowsCached = true;
+    }
+}
@@ -17,13 +17,14 @@
 
 package org.apache.shardingsphere.driver.executor.batch;
 
-import lombok.Getter;
+import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -37,8 +38,10 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -56,11 +59,12 @@ public final class BatchPreparedStatementExecutor {
     
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
     
-    @Getter
-    private final Collection<BatchExecutionUnit> batchExecutionUnits;
+    private final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits;
     
     private int batchCount;
     
+    private boolean coalesced;
+    
     private final String databaseName;
     
     public BatchPreparedStatementExecutor(final MetaDataContexts metaDataContexts, final JDBCExecutor jdbcExecutor, final String databaseName, final String processId) {
@@ -68,7 +72,7 @@ public final class BatchPreparedStatementExecutor {
         this.metaDataContexts = metaDataContexts;
         this.jdbcExecutor = jdbcExecutor;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>(), new ExecutionGroupReportContext(processId, databaseName, new Grantee("", "")));
-        batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnits = new LinkedHashMap<>();
     }
     
     /**
@@ -86,44 +90,113 @@ public final class BatchPreparedStatementExecutor {
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
+        for (ExecutionUnit each : executionUnits) {
+            BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(each);
+            if (null == batchExecutionUnit) {
+                batchExecutionUnit = createBatchExecutionUnit(each);
+                batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
+            } else {
+                batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(each.getSqlUnit().getParameters());
+            }
+            batchExecutionUnit.mapAddBatchCount(batchCount);
+        }
         batchCount++;
     }
     
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        List<BatchExecutionUnit> result = new ArrayList<>(executionUnits.size());
-        for (ExecutionUnit each : executionUnits) {
-            BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(each);
-            result.add(batchExecutionUnit);
-        }
-        return result;
+    private BatchExecutionUnit createBatchExecutionUnit(final ExecutionUnit executionUnit) {
+        SQLUnit sqlUnit = executionUnit.getSqlUnit();
+        return new BatchExecutionUnit(new ExecutionUnit(executionUnit.getDataSourceName(), new SQLUnit(sqlUnit.getSql(), new ArrayList<>(sqlUnit.getParameters()), sqlUnit.getTableRouteMappers())));
     }
     
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
+    /**
+     * Coalesce rows of each batch execution unit into multi values INSERT statements.
+     * 
+     * <p>Update count of each row is 1 if update count of coalesced statement equals its row count, otherwise it is {@link Statement#SUCCESS_NO_INFO}.</p>
+     *
+     * @param maxRowCount max row count of each multi values INSERT statement
+     */
+    public void coalesceInsertValues(final int maxRowCount) {
+        Map<ExecutionUnit, BatchExecutionUnit> coalescedBatchExecutionUnits = new LinkedHashMap<>(batchExecutionUnits.size(), 1F);
+        for (BatchExecutionUnit each : batchExecutionUnits.values()) {
+            for (BatchExecutionUnit eachCoalesced : coalesceInsertValues(each, maxRowCount)) {
+                coalescedBatchExecutionUnits.put(eachCoalesced.getExecutionUnit(), eachCoalesced);
+            }
+        }
+        batchExecutionUnits.clear();
+        batchExecutionUnits.putAll(coalescedBatchExecutionUnits);
+        coalesced = true;
     }
     
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (each.equals(batchExecutionUnit)) {
-                reviseBatchExecutionUnit(each, batchExecutionUnit);
+    private Collection<BatchExecutionUnit> coalesceInsertValues(final BatchExecutionUnit batchExecutionUnit, final int maxRowCount) {
+        SQLUnit sqlUnit = batchExecutionUnit.getExecutionUnit().getSqlUnit();
+        List<List<Object>> paramSets = batchExecutionUnit.getParameterSets();
+        int valuesRowStartIndex = findValuesRowStartIndex(sqlUnit.getSql());
+        if (paramSets.size() < 2 || valuesRowStartIndex < 0) {
+            return Collections.singleton(batchExecutionUnit);
+        }
+        String valuesRow = sqlUnit.getSql().substring(valuesRowStartIndex).trim();
+        if (valuesRow.chars().filter(each -> '?' == each).count() != paramSets.get(0).size()) {
+            return Collections.singleton(batchExecutionUnit);
+        }
+        List<Integer> jdbcAddBatchTimes = getJDBCAddBatchTimes(batchExecutionUnit);
+        Map<Integer, BatchExecutionUnit> result = new LinkedHashMap<>(2, 1F);
+        for (int start = 0; start < paramSets.size(); start += maxRowCount) {
+            int end = Math.min(start + maxRowCount, paramSets.size());
+            int rowCount = end - start;
+            BatchExecutionUnit coalescedUnit = result.computeIfAbsent(rowCount, key -> createCoalescedBatchExecutionUnit(batchExecutionUnit.getExecutionUnit(), valuesRowStartIndex, valuesRow, key));
+            for (List<Object> each : paramSets.subList(start, end)) {
+                coalescedUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(each);
             }
+            coalescedUnit.mapCoalescedAddBatchCount(jdbcAddBatchTimes.subList(start, end));
         }
+        return result.values();
     }
     
-    private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
-        oldBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters());
-        oldBatchExecutionUnit.mapAddBatchCount(batchCount);
+    private int findValuesRowStartIndex(final String sql) {
+        int index = skipWhitespacesBackward(sql, sql.length() - 1);
+        if (index < 0 || ')' != sql.charAt(index)) {
+            return -1;
+        }
+        index--;
+        while (index >= 0 && ('?' == sql.charAt(index) || ',' == sql.charAt(index) || Character.isWhitespace(sql.charAt(index)))) {
+            index--;
+        }
+        if (index < 0 || '(' != sql.charAt(index)) {
+            return -1;
+        }
+        int valuesKeywordEndIndex = skipWhitespacesBackward(sql, index - 1);
+        return valuesKeywordEndIndex >= 5 && "VALUES".equalsIgnoreCase(sql.substring(valuesKeywordEndIndex - 5, valuesKeywordEndIndex + 1)) ? index : -1;
     }
     
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        for (BatchExecutionUnit each : newExecutionUnits) {
-            each.mapAddBatchCount(batchCount);
+    private int skipWhitespacesBackward(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result >= 0 && Character.isWhitespace(sql.charAt(result))) {
+            result--;
         }
-        batchExecutionUnits.addAll(newExecutionUnits);
+        return result;
+    }
+    
+    private List<Integer> getJDBCAddBatchTimes(final BatchExecutionUnit batchExecutionUnit) {
+        Integer[] result = new Integer[batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().size()];
+        for (Entry<Integer, Integer> entry : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
+            result[entry.getValue()] = entry.getKey();
+        }
+        return Arrays.asList(result);
+    }
+    
+    private BatchExecutionUnit createCoalescedBatchExecutionUnit(final ExecutionUnit executionUnit, final int valuesRowStartIndex, final String valuesRow, final int rowCount) {
+        String sql = executionUnit.getSqlUnit().getSql().substring(0, valuesRowStartIndex) + String.join(", ", Collections.nCopies(rowCount, valuesRow));
+        SQLUnit sqlUnit = new SQLUnit(sql, new ArrayList<>(), executionUnit.getSqlUnit().getTableRouteMappers());
+        return new BatchExecutionUnit(new ExecutionUnit(executionUnit.getDataSourceName(), sqlUnit), rowCount);
+    }
+    
+    /**
+     * Get batch execution units.
+     *
+     * @return batch execution units
+     */
+    public Collection<BatchExecutionUnit> getBatchExecutionUnits() {
+        return batchExecutionUnits.values();
     }
     
     /**
@@ -153,7 +226,7 @@ public final class BatchPreparedStatementExecutor {
         if (results.isEmpty()) {
             return new int[0];
         }
-        return isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
+        return coalesced || isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
     }
     
     private boolean isNeedAccumulate(final SQLStatementContext sqlStatementContext) {
@@ -178,24 +251,21 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private void accumulate(final int[] executeResult, final int[] addBatchCounts, final JDBCExecutionUnit executionUnit) {
-        for (Entry<Integer, Integer> entry : getJDBCAndActualAddBatchCallTimesMap(executionUnit).entrySet()) {
-            int value = null == executeResult ? 0 : executeResult[entry.getValue()];
+        BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        if (null == batchExecutionUnit) {
+            return;
+        }
+        for (Entry<Integer, Integer> entry : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
+            int value = null == executeResult ? 0 : getRowUpdateCount(executeResult[entry.getValue()], batchExecutionUnit.getCoalescedRowCount());
             addBatchCounts[entry.getKey()] += value;
         }
     }
     
-    private Map<Integer, Integer> getJDBCAndActualAddBatchCallTimesMap(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getJdbcAndActualAddBatchCallTimesMap();
-            }
+    private int getRowUpdateCount(final int updateCount, final int coalescedRowCount) {
+        if (1 == coalescedRowCount || updateCount < 0) {
+            return updateCount;
         }
-        return Collections.emptyMap();
-    }
-    
-    private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
-        return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
-                && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
+        return coalescedRowCount == updateCount ? 1 : Statement.SUCCESS_NO_INFO;
     }
     
     /**
@@ -240,12 +310,9 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getParameterSets();
-            }
-        }
-        throw new IllegalStateException();
+        BatchExecutionUnit result = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        Preconditions.checkState(null != result);
+        return result.getParameterSets();
     }
     
     /**
@@ -256,5 +323,6 @@ public final class BatchPreparedStatementExecutor {
         executionGroupContext.getInputGroups().clear();
         batchCount = 0;
         batchExecutionUnits.clear();
+        coalesced = false;
     }
 }
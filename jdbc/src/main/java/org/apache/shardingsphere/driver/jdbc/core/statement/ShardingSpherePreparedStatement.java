@@ -22,6 +22,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.driver.executor.DriverExecutor;
 import org.apache.shardingsphere.driver.executor.batch.BatchExecutionUnit;
+import org.apache.shardingsphere.driver.executor.batch.BatchInsertShapeCache;
 import org.apache.shardingsphere.driver.executor.batch.BatchPreparedStatementExecutor;
 import org.apache.shardingsphere.driver.executor.callback.impl.PreparedStatementExecuteQueryCallback;
 import org.apache.shardingsphere.driver.jdbc.adapter.AbstractPreparedStatementAdapter;
@@ -77,6 +78,7 @@ import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.parser.SQLParserEngine;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.infra.rule.attribute.raw.RawExecutionRuleAttribute;
 import org.apache.shardingsphere.infra.rule.attribute.resoure.StorageConnectorReusableRuleAttribute;
@@ -140,6 +142,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private final BatchPreparedStatementExecutor batchPreparedStatementExecutor;
     
+    private final BatchInsertShapeCache batchInsertShapeCache;
+    
     private final Collection<Comparable<?>> generatedValues = new LinkedList<>();
     
     private final KernelProcessor kernelProcessor;
@@ -212,6 +216,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         executor = new DriverExecutor(connection);
         JDBCExecutor jdbcExecutor = new JDBCExecutor(connection.getContextManager().getExecutorEngine(), connection.getDatabaseConnectionManager().getConnectionContext());
         batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(metaDataContexts, jdbcExecutor, databaseName, connection.getProcessId());
+        batchInsertShapeCache = new BatchInsertShapeCache(sqlStatementContext, metaDataContexts.getMetaData().getProps());
         kernelProcessor = new KernelProcessor();
         statementsCacheable = isStatementsCacheable(metaDataContexts.getMetaData().getDatabase(databaseName).getRuleMetaData());
         trafficRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(TrafficRule.class);
@@ -665,6 +670,11 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         try {
             QueryContext queryContext = createQueryContext();
             trafficInstanceId = getInstanceIdAndSet(queryContext).orElse(null);
+            if (null == trafficInstanceId && batchInsertShapeCache.isAvailable()) {
+                addBatchWithShapeCache(queryContext);
+                return;
+            }
+            batchInsertShapeCache.markRowNotCached();
             executionContext = null == trafficInstanceId ? createExecutionContext(queryContext) : createExecutionContext(queryContext, trafficInstanceId);
             batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContext.getExecutionUnits());
         } finally {
@@ -673,6 +683,22 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         }
     }
     
+    private void addBatchWithShapeCache(final QueryContext queryContext) {
+        RuleMetaData globalRuleMetaData = metaDataContexts.getMetaData().getGlobalRuleMetaData();
+        ShardingSphereDatabase currentDatabase = metaDataContexts.getMetaData().getDatabase(databaseName);
+        RouteContext routeContext = new SQLRouteEngine(currentDatabase.getRuleMetaData().getRules(), metaDataContexts.getMetaData().getProps())
+                .route(connection.getDatabaseConnectionManager().getConnectionContext(), queryContext, globalRuleMetaData, currentDatabase);
+        Optional<Collection<ExecutionUnit>> cachedExecutionUnits = batchInsertShapeCache.find(routeContext, queryContext.getParameters());
+        if (cachedExecutionUnits.isPresent()) {
+            SQLAuditEngine.audit(queryContext.getSqlStatementContext(), queryContext.getParameters(), globalRuleMetaData, currentDatabase, null, queryContext.getHintValueContext());
+            batchPreparedStatementExecutor.addBatchForExecutionUnits(cachedExecutionUnits.get());
+            return;
+        }
+        executionContext = createExecutionContext(queryContext);
+        batchInsertShapeCache.put(executionContext, getParameters());
+        batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContext.getExecutionUnits());
+    }
+    
     @Override
     public int[] executeBatch() throws SQLException {
         if (null == executionContext) {
@@ -692,6 +718,10 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     }
     
     private int[] doExecuteBatch(final BatchPreparedStatementExecutor batchExecutor) throws SQLException {
+        int coalescingSize = metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_VALUES_COALESCING_SIZE);
+        if (coalescingSize > 1 && batchInsertShapeCache.isCoalescible()) {
+            batchExecutor.coalesceInsertValues(coalescingSize);
+        }
         initBatchPreparedStatementExecutor(batchExecutor);
         int[] result = batchExecutor.executeBatch(executionContext.getSqlStatementContext());
         if (statementOption.isReturnGeneratedKeys() && generatedValues.isEmpty()) {
@@ -733,6 +763,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     public void clearBatch() {
         currentResultSet = null;
         batchPreparedStatementExecutor.clear();
+        batchInsertShapeCache.clear();
         clearParameters();
     }
     
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BatchInsertShapeCacheTest {
+    
+    private static final String SQL = "INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?)";
+    
+    @Test
+    void assertIsNotAvailableWithSelectStatement() {
+        assertFalse(new BatchInsertShapeCache(mock(SelectStatementContext.class), new ConfigurationProperties(new Properties())).isAvailable());
+    }
+    
+    @Test
+    void assertFindWithCachedRouteUnits() {
+        InsertStatementContext sqlStatementContext = mockInsertStatementContext(new ParameterMarkerExpressionSegment(0, 0, 0), new ParameterMarkerExpressionSegment(0, 0, 1));
+        BatchInsertShapeCache cache = new BatchInsertShapeCache(sqlStatementContext, new ConfigurationProperties(new Properties()));
+        assertTrue(cache.isAvailable());
+        assertFalse(cache.find(createRouteContext("t_order_0"), Arrays.asList(1, 10)).isPresent());
+        cache.put(createExecutionContext(sqlStatementContext, "t_order_0", Arrays.asList(1, 10)), Arrays.asList(1, 10));
+        Optional<Collection<ExecutionUnit>> actual = cache.find(createRouteContext("t_order_0"), Arrays.asList(3, 30));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(1));
+        SQLUnit actualSQLUnit = actual.get().iterator().next().getSqlUnit();
+        assertThat(actualSQLUnit.getSql(), is(SQL));
+        assertThat(actualSQLUnit.getParameters(), is(Arrays.<Object>asList(3, 30)));
+        assertFalse(cache.find(createRouteContext("t_order_1"), Arrays.asList(2, 20)).isPresent());
+        assertTrue(cache.isCoalescible());
+        cache.clear();
+        assertFalse(cache.find(createRouteContext("t_order_0"), Arrays.asList(3, 30)).isPresent());
+    }
+    
+    @Test
+    void assertPutWithChangedParameters() {
+        InsertStatementContext sqlStatementContext = mockInsertStatementContext(new ParameterMarkerExpressionSegment(0, 0, 0), new ParameterMarkerExpressionSegment(0, 0, 1));
+        BatchInsertShapeCache cache = new BatchInsertShapeCache(sqlStatementContext, new ConfigurationProperties(new Properties()));
+        cache.put(createExecutionContext(sqlStatementContext, "t_order_0", Arrays.asList(1, "encrypted")), Arrays.asList(1, "plain"));
+        assertFalse(cache.isAvailable());
+        assertFalse(cache.isCoalescible());
+    }
+    
+    @Test
+    void assertPutWithGeneratedKey() {
+        InsertStatementContext sqlStatementContext = mockInsertStatementContext(new ParameterMarkerExpressionSegment(0, 0, 0), new ParameterMarkerExpressionSegment(0, 0, 1));
+        when(sqlStatementContext.getGeneratedKeyContext()).thenReturn(Optional.of(new GeneratedKeyContext("order_id", true)));
+        BatchInsertShapeCache cache = new BatchInsertShapeCache(sqlStatementContext, new ConfigurationProperties(new Properties()));
+        cache.put(createExecutionContext(sqlStatementContext, "t_order_0", Arrays.asList(1, 10)), Arrays.asList(1, 10));
+        assertFalse(cache.isAvailable());
+    }
+    
+    @Test
+    void assertPutWithNullParameter() {
+        InsertStatementContext sqlStatementContext = mockInsertStatementContext(new ParameterMarkerExpressionSegment(0, 0, 0), new ParameterMarkerExpressionSegment(0, 0, 1));
+        BatchInsertShapeCache cache = new BatchInsertShapeCache(sqlStatementContext, new ConfigurationProperties(new Properties()));
+        cache.put(createExecutionContext(sqlStatementContext, "t_order_0", Arrays.asList(1, null)), Arrays.asList(1, null));
+        assertTrue(cache.isAvailable());
+        assertFalse(cache.find(createRouteContext("t_order_0"), Arrays.asList(3, 30)).isPresent());
+        assertFalse(cache.isCoalescible());
+    }
+    
+    @Test
+    void assertIsNotCoalescibleWithLiteralValue() {
+        InsertStatementContext sqlStatementContext = mockInsertStatementContext(new ParameterMarkerExpressionSegment(0, 0, 0), new LiteralExpressionSegment(0, 0, 10));
+        BatchInsertShapeCache cache = new BatchInsertShapeCache(sqlStatementContext, new ConfigurationProperties(new Properties()));
+        cache.put(createExecutionContext(sqlStatementContext, "t_order_0", Collections.singletonList(1)), Collections.singletonList(1));
+        assertTrue(cache.isAvailable());
+        assertFalse(cache.isCoalescible());
+    }
+    
+    private InsertStatementContext mockInsertStatementContext(final ExpressionSegment... values) {
+        InsertStatementContext result = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatement().getInsertSelect()).thenReturn(Optional.empty());
+        when(result.getSqlStatement().getValues()).thenReturn(Collections.singleton(new InsertValuesSegment(0, 0, Arrays.asList(values))));
+        when(result.getValueExpressions()).thenReturn(Collections.singletonList(Arrays.asList(values)));
+        when(result.getGeneratedKeyContext()).thenReturn(Optional.empty());
+        return result;
+    }
+    
+    private ExecutionContext createExecutionContext(final InsertStatementContext sqlStatementContext, final String actualTableName, final List<Object> rewrittenParams) {
+        QueryContext queryContext = new QueryContext(sqlStatementContext, SQL, rewrittenParams, new HintValueContext());
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit(SQL.replace("t_order_0", actualTableName), rewrittenParams));
+        return new ExecutionContext(queryContext, Collections.singleton(executionUnit), createRouteContext(actualTableName));
+    }
+    
+    private RouteContext createRouteContext(final String actualTableName) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t_order", actualTableName))));
+        return result;
+    }
+}
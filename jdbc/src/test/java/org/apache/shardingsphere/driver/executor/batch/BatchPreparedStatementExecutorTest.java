@@ -55,11 +55,15 @@ import org.mockito.quality.Strictness;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
@@ -178,6 +182,58 @@ class BatchPreparedStatementExecutorTest {
         assertThrows(SQLException.class, () -> executor.executeBatch(sqlStatementContext));
     }
     
+    @Test
+    void assertAddBatchForExecutionUnits() {
+        executor.addBatchForExecutionUnits(Arrays.asList(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))), new ExecutionUnit("ds_1", new SQLUnit(SQL, Collections.singletonList(2)))));
+        executor.addBatchForExecutionUnits(Collections.singleton(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(3)))));
+        assertThat(executor.getBatchExecutionUnits().size(), is(2));
+        Iterator<BatchExecutionUnit> actual = executor.getBatchExecutionUnits().iterator();
+        BatchExecutionUnit actualFirst = actual.next();
+        assertThat(actualFirst.getExecutionUnit().getDataSourceName(), is("ds_0"));
+        assertThat(actualFirst.getParameterSets(), is(Arrays.asList(Collections.singletonList(1), Collections.singletonList(3))));
+        assertThat(actualFirst.getJdbcAndActualAddBatchCallTimesMap().get(1), is(1));
+        BatchExecutionUnit actualSecond = actual.next();
+        assertThat(actualSecond.getExecutionUnit().getDataSourceName(), is("ds_1"));
+        assertThat(actualSecond.getParameterSets(), is(Collections.singletonList(Collections.singletonList(2))));
+    }
+    
+    @Test
+    void assertCoalesceInsertValues() throws SQLException {
+        String insertSQL = "INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?)";
+        for (int i = 0; i < 5; i++) {
+            executor.addBatchForExecutionUnits(Collections.singleton(new ExecutionUnit("ds_0", new SQLUnit(insertSQL, Arrays.asList(i, i * 10)))));
+        }
+        executor.coalesceInsertValues(2);
+        assertThat(executor.getBatchExecutionUnits().size(), is(2));
+        Iterator<BatchExecutionUnit> actual = executor.getBatchExecutionUnits().iterator();
+        BatchExecutionUnit actualFirst = actual.next();
+        assertThat(actualFirst.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?), (?, ?)"));
+        assertThat(actualFirst.getCoalescedRowCount(), is(2));
+        assertThat(actualFirst.getParameterSets(), is(Arrays.asList(Arrays.<Object>asList(0, 0, 1, 10), Arrays.<Object>asList(2, 20, 3, 30))));
+        BatchExecutionUnit actualSecond = actual.next();
+        assertThat(actualSecond.getExecutionUnit().getSqlUnit().getSql(), is(insertSQL));
+        assertThat(actualSecond.getCoalescedRowCount(), is(1));
+        assertThat(actualSecond.getParameterSets(), is(Collections.singletonList(Arrays.<Object>asList(4, 40))));
+        PreparedStatement coalescedStatement = getPreparedStatement();
+        when(coalescedStatement.executeBatch()).thenReturn(new int[]{2, 1});
+        PreparedStatement singleStatement = getPreparedStatement();
+        when(singleStatement.executeBatch()).thenReturn(new int[]{1});
+        List<JDBCExecutionUnit> executionUnits = Arrays.asList(new JDBCExecutionUnit(actualFirst.getExecutionUnit(), ConnectionMode.MEMORY_STRICTLY, coalescedStatement),
+                new JDBCExecutionUnit(actualSecond.getExecutionUnit(), ConnectionMode.MEMORY_STRICTLY, singleStatement));
+        executor.init(new ExecutionGroupContext<>(Collections.singleton(new ExecutionGroup<>(executionUnits)), new ExecutionGroupReportContext("foo_process", "foo_db", new Grantee("", ""))));
+        assertThat(executor.executeBatch(sqlStatementContext), is(new int[]{1, 1, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, 1}));
+    }
+    
+    @Test
+    void assertCoalesceInsertValuesWithoutValuesRowAtEnd() {
+        String insertSQL = "INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?) RETURNING order_id";
+        executor.addBatchForExecutionUnits(Collections.singleton(new ExecutionUnit("ds_0", new SQLUnit(insertSQL, Arrays.asList(1, 10)))));
+        executor.addBatchForExecutionUnits(Collections.singleton(new ExecutionUnit("ds_0", new SQLUnit(insertSQL, Arrays.asList(2, 20)))));
+        executor.coalesceInsertValues(2);
+        assertThat(executor.getBatchExecutionUnits().size(), is(1));
+        assertThat(executor.getBatchExecutionUnits().iterator().next().getExecutionUnit().getSqlUnit().getSql(), is(insertSQL));
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
         when(result.getConnection().getMetaData().getURL()).thenReturn("jdbc:h2:mem:primary_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
@@ -188,19 +244,19 @@ class BatchPreparedStatementExecutorTest {
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
         executionGroups.add(new ExecutionGroup<>(executionUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))), ConnectionMode.MEMORY_STRICTLY, each));
         }
         setFields(executionGroups, batchExecutionUnits);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits) {
         String processId = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong()).toString().replace("-", "");
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext"), executor, new ExecutionGroupContext<>(executionGroups,
                 new ExecutionGroupReportContext(processId, "logic_db", new Grantee("", ""))));
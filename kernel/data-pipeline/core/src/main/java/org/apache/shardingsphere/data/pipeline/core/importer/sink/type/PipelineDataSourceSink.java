@@ -40,6 +40,8 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -175,8 +177,12 @@ public final class PipelineDataSourceSink implements PipelineSink {
             if (transactionEnabled) {
                 connection.setAutoCommit(false);
             }
-            for (DataRecord each : dataRecords) {
-                executeUpdate(connection, each);
+            if (firstTimeRun) {
+                executeBatchUpdate(connection, dataRecords);
+            } else {
+                for (DataRecord each : dataRecords) {
+                    executeUpdate(connection, each);
+                }
             }
             if (transactionEnabled) {
                 connection.commit();
@@ -184,25 +190,67 @@ public final class PipelineDataSourceSink implements PipelineSink {
         }
     }
     
-    private void executeUpdate(final Connection connection, final DataRecord dataRecord) throws SQLException {
-        Set<String> shardingColumns = importerConfig.getShardingColumns(dataRecord.getTableName());
-        List<Column> conditionColumns = RecordUtils.extractConditionColumns(dataRecord, shardingColumns);
-        List<Column> setColumns = dataRecord.getColumns().stream().filter(Column::isUpdated).collect(Collectors.toList());
-        String sql = importSQLBuilder.buildUpdateSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord, conditionColumns);
+    private void executeBatchUpdate(final Connection connection, final Collection<DataRecord> dataRecords) throws SQLException {
+        List<DataRecord> sameSQLDataRecords = new ArrayList<>();
+        List<List<Column>> sameSQLConditionColumns = new ArrayList<>();
+        String sameSQL = null;
+        for (DataRecord each : dataRecords) {
+            List<Column> conditionColumns = RecordUtils.extractConditionColumns(each, importerConfig.getShardingColumns(each.getTableName()));
+            String sql = buildUpdateSQL(each, conditionColumns);
+            if (!sameSQLDataRecords.isEmpty() && !sql.equals(sameSQL)) {
+                executeBatchUpdate(connection, sameSQL, sameSQLDataRecords, sameSQLConditionColumns);
+                sameSQLDataRecords = new ArrayList<>();
+                sameSQLConditionColumns = new ArrayList<>();
+            }
+            sameSQL = sql;
+            sameSQLDataRecords.add(each);
+            sameSQLConditionColumns.add(conditionColumns);
+        }
+        if (!sameSQLDataRecords.isEmpty()) {
+            executeBatchUpdate(connection, sameSQL, sameSQLDataRecords, sameSQLConditionColumns);
+        }
+    }
+    
+    private void executeBatchUpdate(final Connection connection, final String sql, final List<DataRecord> dataRecords, final List<List<Column>> conditionColumns) throws SQLException {
+        if (1 == dataRecords.size()) {
+            executeUpdate(connection, sql, dataRecords.get(0), conditionColumns.get(0));
+            return;
+        }
         try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             runningStatement.set(preparedStatement);
-            for (int i = 0; i < setColumns.size(); i++) {
-                preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
+            preparedStatement.setQueryTimeout(30);
+            for (int i = 0; i < dataRecords.size(); i++) {
+                setUpdateParameters(preparedStatement, dataRecords.get(i), conditionColumns.get(i));
+                preparedStatement.addBatch();
             }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
-                if (shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue()) {
-                    preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getValue());
-                    continue;
+            for (int each : preparedStatement.executeBatch()) {
+                if (1 != each && Statement.SUCCESS_NO_INFO != each) {
+                    log.warn("execute batch update failed, update count: {}, sql: {}", each, sql);
                 }
-                preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getOldValue());
             }
+        } catch (final SQLException ex) {
+            log.error("execute batch update failed, sql: {}, batch size: {}, error message: {}", sql, dataRecords.size(), ex.getMessage());
+            throw ex;
+        } finally {
+            runningStatement.set(null);
+        }
+    }
+    
+    private String buildUpdateSQL(final DataRecord dataRecord, final List<Column> conditionColumns) {
+        return importSQLBuilder.buildUpdateSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord, conditionColumns);
+    }
+    
+    private void executeUpdate(final Connection connection, final DataRecord dataRecord) throws SQLException {
+        List<Column> conditionColumns = RecordUtils.extractConditionColumns(dataRecord, importerConfig.getShardingColumns(dataRecord.getTableName()));
+        executeUpdate(connection, buildUpdateSQL(dataRecord, conditionColumns), dataRecord, conditionColumns);
+    }
+    
+    private void executeUpdate(final Connection connection, final String sql, final DataRecord dataRecord, final List<Column> conditionColumns) throws SQLException {
+        Set<String> shardingColumns = importerConfig.getShardingColumns(dataRecord.getTableName());
+        List<Column> setColumns = dataRecord.getColumns().stream().filter(Column::isUpdated).collect(Collectors.toList());
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            runningStatement.set(preparedStatement);
+            setUpdateParameters(preparedStatement, dataRecord, conditionColumns);
             // TODO if table without unique key the conditionColumns before values is null, so update will fail at PostgreSQL
             int updateCount = preparedStatement.executeUpdate();
             if (1 != updateCount) {
@@ -218,6 +266,23 @@ public final class PipelineDataSourceSink implements PipelineSink {
         }
     }
     
+    private void setUpdateParameters(final PreparedStatement preparedStatement, final DataRecord dataRecord, final List<Column> conditionColumns) throws SQLException {
+        Set<String> shardingColumns = importerConfig.getShardingColumns(dataRecord.getTableName());
+        List<Column> setColumns = dataRecord.getColumns().stream().filter(Column::isUpdated).collect(Collectors.toList());
+        for (int i = 0; i < setColumns.size(); i++) {
+            preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
+        }
+        for (int i = 0; i < conditionColumns.size(); i++) {
+            Column keyColumn = conditionColumns.get(i);
+            // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
+            if (shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue()) {
+                preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getValue());
+                continue;
+            }
+            preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getOldValue());
+        }
+    }
+    
     private void executeBatchDelete(final Collection<DataRecord> dataRecords) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
             boolean transactionEnabled = dataRecords.size() > 1;
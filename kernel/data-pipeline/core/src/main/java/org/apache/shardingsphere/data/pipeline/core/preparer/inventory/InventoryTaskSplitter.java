@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.preparer.inventory;
 
+import com.google.common.base.Strings;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.Range;
@@ -49,13 +50,16 @@ import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -174,8 +178,7 @@ public final class InventoryTaskSplitter {
                 return getPositionByIntegerUniqueKeyRange(dumperContext, tableRecordsCount, jobItemContext, dataSource);
             }
             if (PipelineJdbcUtils.isStringColumn(firstColumnDataType)) {
-                // TODO Support string unique key table splitting. Ascii characters ordering are different in different versions of databases.
-                return Collections.singleton(new StringPrimaryKeyIngestPosition(null, null));
+                return getPositionByStringUniqueKeyProbes(dumperContext, tableRecordsCount, jobItemContext, dataSource);
             }
         }
         return Collections.singleton(new UnsupportedKeyIngestPosition());
@@ -199,6 +202,70 @@ public final class InventoryTaskSplitter {
         return result;
     }
     
+    private Collection<IngestPosition> getPositionByStringUniqueKeyProbes(final InventoryDumperContext dumperContext, final long tableRecordsCount,
+                                                                         final TransmissionJobItemContext jobItemContext, final PipelineDataSourceWrapper dataSource) {
+        int shardingSize = jobItemContext.getJobProcessContext().getProcessConfiguration().getRead().getShardingSize();
+        String uniqueKey = dumperContext.getUniqueKeyColumns().get(0).getName();
+        String schemaName = dumperContext.getCommonContext().getTableAndSchemaNameMapper().getSchemaName(dumperContext.getLogicTableName());
+        PipelinePrepareSQLBuilder pipelineSQLBuilder = new PipelinePrepareSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType());
+        Optional<String> sql = pipelineSQLBuilder.buildUniqueKeyBoundaryProbeSQL(schemaName, dumperContext.getActualTableName(), uniqueKey);
+        if (tableRecordsCount <= shardingSize || !sql.isPresent()) {
+            return Collections.singleton(new StringPrimaryKeyIngestPosition(null, null));
+        }
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql.get())) {
+            String minimumValue = getStringUniqueKeyMinimumValue(statement, pipelineSQLBuilder.buildUniqueKeyMinMaxValuesSQL(schemaName, dumperContext.getActualTableName(), uniqueKey));
+            // Null or empty value could not be used as inclusive range boundary, fall back to single position
+            return Strings.isNullOrEmpty(minimumValue) ? Collections.singleton(new StringPrimaryKeyIngestPosition(null, null))
+                    : probeStringUniqueKeyPositions(preparedStatement, minimumValue, shardingSize);
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(dumperContext.getActualTableName(), uniqueKey, ex);
+        }
+    }
+    
+    private String getStringUniqueKeyMinimumValue(final Statement statement, final String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            return resultSet.next() ? resultSet.getString(1) : null;
+        }
+    }
+    
+    /*
+     * Every probe seeks past the begin value of current range, the last value of the range and the begin value of next range are the two values after skipping
+     * the rest of sharding size rows. So each probe scans at most sharding size rows of unique key index, instead of scanning from the beginning of table.
+     */
+    private Collection<IngestPosition> probeStringUniqueKeyPositions(final PreparedStatement preparedStatement, final String minimumValue, final int shardingSize) throws SQLException {
+        Collection<IngestPosition> result = new LinkedList<>();
+        long offset = Math.max(shardingSize, 2) - 2L;
+        String beginValue = minimumValue;
+        while (true) {
+            List<String> boundaryValues = probeStringUniqueKeyValues(preparedStatement, beginValue, offset);
+            if (boundaryValues.size() < 2) {
+                break;
+            }
+            if (Strings.isNullOrEmpty(boundaryValues.get(0)) || Strings.isNullOrEmpty(boundaryValues.get(1))) {
+                return Collections.singleton(new StringPrimaryKeyIngestPosition(null, null));
+            }
+            result.add(new StringPrimaryKeyIngestPosition(beginValue, boundaryValues.get(0)));
+            beginValue = boundaryValues.get(1);
+        }
+        result.add(new StringPrimaryKeyIngestPosition(beginValue, null));
+        return result;
+    }
+    
+    private List<String> probeStringUniqueKeyValues(final PreparedStatement preparedStatement, final String previousValue, final long offset) throws SQLException {
+        preparedStatement.setString(1, previousValue);
+        preparedStatement.setLong(2, offset);
+        List<String> result = new ArrayList<>(2);
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                result.add(resultSet.getString(1));
+            }
+        }
+        return result;
+    }
+    
     private Range<Long> getUniqueKeyValuesRange(final TransmissionJobItemContext jobItemContext, final DataSource dataSource, final InventoryDumperContext dumperContext) {
         String uniqueKey = dumperContext.getUniqueKeyColumns().get(0).getName();
         PipelinePrepareSQLBuilder pipelineSQLBuilder = new PipelinePrepareSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType());
@@ -68,6 +68,17 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
         return Optional.empty();
     }
     
+    /**
+     * Build unique key boundary probe SQL, which queries two adjacent unique key values greater than the first parameter in ascending order from the offset parameter.
+     *
+     * @param qualifiedTableName qualified table name
+     * @param escapedUniqueKey escaped unique key
+     * @return built SQL
+     */
+    default Optional<String> buildUniqueKeyBoundaryProbeSQL(final String qualifiedTableName, final String escapedUniqueKey) {
+        return Optional.empty();
+    }
+    
     /**
      * Build CRC32 SQL.
      *
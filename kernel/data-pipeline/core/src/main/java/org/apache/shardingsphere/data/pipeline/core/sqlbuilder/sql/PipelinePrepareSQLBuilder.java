@@ -94,6 +94,18 @@ public final class PipelinePrepareSQLBuilder {
         return String.format("SELECT MIN(%s), MAX(%s) FROM %s", escapedUniqueKey, escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName));
     }
     
+    /**
+     * Build unique key boundary probe SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return unique key boundary probe SQL
+     */
+    public Optional<String> buildUniqueKeyBoundaryProbeSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        return dialectSQLBuilder.buildUniqueKeyBoundaryProbeSQL(sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), sqlSegmentBuilder.getEscapedIdentifier(uniqueKey));
+    }
+    
     /**
      * Build check empty table SQL.
      *
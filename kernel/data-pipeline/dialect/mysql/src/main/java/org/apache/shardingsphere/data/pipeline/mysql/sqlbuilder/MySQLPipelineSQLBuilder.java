@@ -59,6 +59,11 @@ public final class MySQLPipelineSQLBuilder implements DialectPipelineSQLBuilder
         return Optional.of(String.format("SELECT TABLE_ROWS FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = '%s'", qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildUniqueKeyBoundaryProbeSQL(final String qualifiedTableName, final String escapedUniqueKey) {
+        return Optional.of(String.format("SELECT %s FROM %s WHERE %s>? ORDER BY %s ASC LIMIT 2 OFFSET ?", escapedUniqueKey, qualifiedTableName, escapedUniqueKey, escapedUniqueKey));
+    }
+    
     @Override
     public Optional<String> buildCRC32SQL(final String qualifiedTableName, final String columnName) {
         return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s", columnName, qualifiedTableName));
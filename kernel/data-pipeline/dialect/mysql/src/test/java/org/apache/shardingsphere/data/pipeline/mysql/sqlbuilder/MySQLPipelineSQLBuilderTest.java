@@ -62,4 +62,11 @@ class MySQLPipelineSQLBuilderTest {
         assertTrue(actual.isPresent());
         assertThat(actual.get(), is("SELECT TABLE_ROWS FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = 't_order'"));
     }
+    
+    @Test
+    void assertBuildUniqueKeyBoundaryProbeSQL() {
+        Optional<String> actual = sqlBuilder.buildUniqueKeyBoundaryProbeSQL("t_order", "order_id");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT order_id FROM t_order WHERE order_id>? ORDER BY order_id ASC LIMIT 2 OFFSET ?"));
+    }
 }
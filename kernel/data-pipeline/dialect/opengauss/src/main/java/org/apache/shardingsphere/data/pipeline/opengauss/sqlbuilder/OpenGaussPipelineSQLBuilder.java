@@ -62,6 +62,11 @@ public final class OpenGaussPipelineSQLBuilder implements DialectPipelineSQLBuil
         return Optional.of(String.format("SELECT reltuples::integer FROM pg_class WHERE oid='%s'::regclass::oid;", qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildUniqueKeyBoundaryProbeSQL(final String qualifiedTableName, final String escapedUniqueKey) {
+        return Optional.of(String.format("SELECT %s FROM %s WHERE %s>? ORDER BY %s ASC LIMIT 2 OFFSET ?", escapedUniqueKey, qualifiedTableName, escapedUniqueKey, escapedUniqueKey));
+    }
+    
     @Override
     public Collection<String> buildCreateTableSQLs(final DataSource dataSource, final String schemaName, final String tableName) throws SQLException {
         try (
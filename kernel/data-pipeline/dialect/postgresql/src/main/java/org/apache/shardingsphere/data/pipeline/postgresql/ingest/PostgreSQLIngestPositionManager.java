@@ -21,6 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.DialectIngestPositionManager;
 import org.postgresql.replication.LogSequenceNumber;
@@ -30,6 +31,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Optional;
 
 /**
  * Ingest position manager for PostgreSQL.
@@ -41,6 +43,8 @@ public final class PostgreSQLIngestPositionManager implements DialectIngestPosit
     
     private static final String DECODE_PLUGIN = "test_decoding";
     
+    private static final String CHECK_PUBLICATION_SQL = "SELECT pubname FROM pg_publication WHERE pubname=?";
+    
     private static final String DUPLICATE_OBJECT_ERROR_CODE = "42710";
     
     @Override
@@ -61,7 +65,7 @@ public final class PostgreSQLIngestPositionManager implements DialectIngestPosit
             log.info("createSlotIfNotExist, slot exist, slotName={}", slotName);
             return;
         }
-        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, DECODE_PLUGIN);
+        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, getDecodePlugin(connection));
         try (PreparedStatement preparedStatement = connection.prepareStatement(createSlotSQL)) {
             preparedStatement.execute();
         } catch (final SQLException ex) {
@@ -71,13 +75,36 @@ public final class PostgreSQLIngestPositionManager implements DialectIngestPosit
         }
     }
     
+    private String getDecodePlugin(final Connection connection) throws SQLException {
+        if (connection.getMetaData().getDatabaseMajorVersion() < 10) {
+            return DECODE_PLUGIN;
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement(CHECK_PUBLICATION_SQL)) {
+            preparedStatement.setString(1, PgOutputDecodingPlugin.PUBLICATION_NAME);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? PgOutputDecodingPlugin.PLUGIN_NAME : DECODE_PLUGIN;
+            }
+        }
+    }
+    
     private boolean isSlotExisting(final Connection connection, final String slotName) throws SQLException {
-        String checkSlotSQL = "SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?";
+        return findSlotPlugin(connection, slotName).isPresent();
+    }
+    
+    /**
+     * Find decoding plugin of replication slot.
+     *
+     * @param connection connection
+     * @param slotName slot name
+     * @return decoding plugin name
+     * @throws SQLException SQL exception
+     */
+    public static Optional<String> findSlotPlugin(final Connection connection, final String slotName) throws SQLException {
+        String checkSlotSQL = "SELECT plugin FROM pg_replication_slots WHERE slot_name=?";
         try (PreparedStatement preparedStatement = connection.prepareStatement(checkSlotSQL)) {
             preparedStatement.setString(1, slotName);
-            preparedStatement.setString(2, DECODE_PLUGIN);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                return resultSet.next();
+                return resultSet.next() ? Optional.of(resultSet.getString(1)) : Optional.empty();
             }
         }
     }
@@ -32,6 +32,7 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.PostgreSQLL
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALEventConverter;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLTimestampUtils;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.TestDecodingPlugin;
@@ -68,6 +69,8 @@ public final class PostgreSQLWALDumper extends AbstractPipelineLifecycleRunnable
     
     private final PipelineChannel channel;
     
+    private final PipelineTableMetaDataLoader metaDataLoader;
+    
     private final WALEventConverter walEventConverter;
     
     private final PostgreSQLLogicalReplication logicalReplication;
@@ -83,6 +86,7 @@ public final class PostgreSQLWALDumper extends AbstractPipelineLifecycleRunnable
         this.dumperContext = dumperContext;
         walPosition = new AtomicReference<>((WALPosition) position);
         this.channel = channel;
+        this.metaDataLoader = metaDataLoader;
         walEventConverter = new WALEventConverter(dumperContext, metaDataLoader);
         logicalReplication = new PostgreSQLLogicalReplication();
         this.decodeWithTX = dumperContext.isDecodeWithTX();
@@ -112,25 +116,29 @@ public final class PostgreSQLWALDumper extends AbstractPipelineLifecycleRunnable
     @SneakyThrows(InterruptedException.class)
     private void dump() throws SQLException {
         // TODO use unified PgConnection
-        try (
-                Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperContext.getCommonContext().getDataSourceConfig());
-                PGReplicationStream stream = logicalReplication.createReplicationStream(connection, PostgreSQLIngestPositionManager.getUniqueSlotName(connection, dumperContext.getJobId()),
-                        walPosition.get().getLogSequenceNumber())) {
-            PostgreSQLTimestampUtils utils = new PostgreSQLTimestampUtils(connection.unwrap(PgConnection.class).getTimestampUtils());
-            DecodingPlugin decodingPlugin = new TestDecodingPlugin(utils);
-            while (isRunning()) {
-                ByteBuffer message = stream.readPending();
-                if (null == message) {
-                    Thread.sleep(10L);
-                    continue;
-                }
-                AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
-                if (decodeWithTX) {
-                    processEventWithTX(event);
-                } else {
-                    processEventIgnoreTX(event);
+        try (Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperContext.getCommonContext().getDataSourceConfig())) {
+            String slotName = PostgreSQLIngestPositionManager.getUniqueSlotName(connection, dumperContext.getJobId());
+            boolean pgOutput = PostgreSQLIngestPositionManager.findSlotPlugin(connection, slotName).filter(PgOutputDecodingPlugin.PLUGIN_NAME::equals).isPresent();
+            try (
+                    PGReplicationStream stream = pgOutput
+                            ? logicalReplication.createPgOutputReplicationStream(connection, slotName, walPosition.get().getLogSequenceNumber(), PgOutputDecodingPlugin.PUBLICATION_NAME)
+                            : logicalReplication.createReplicationStream(connection, slotName, walPosition.get().getLogSequenceNumber())) {
+                PostgreSQLTimestampUtils utils = new PostgreSQLTimestampUtils(connection.unwrap(PgConnection.class).getTimestampUtils());
+                DecodingPlugin decodingPlugin = pgOutput ? new PgOutputDecodingPlugin(utils, metaDataLoader) : new TestDecodingPlugin(utils);
+                while (isRunning()) {
+                    ByteBuffer message = stream.readPending();
+                    if (null == message) {
+                        Thread.sleep(10L);
+                        continue;
+                    }
+                    AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
+                    if (decodeWithTX) {
+                        processEventWithTX(event);
+                    } else {
+                        processEventIgnoreTX(event);
+                    }
+                    walPosition.set(new WALPosition(event.getLogSequenceNumber()));
                 }
-                walPosition.set(new WALPosition(event.getLogSequenceNumber()));
             }
         }
     }
@@ -0,0 +1,327 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decoding plugin for pgoutput logical replication protocol.
+ */
+@HighFrequencyInvocation
+@RequiredArgsConstructor
+public final class PgOutputDecodingPlugin implements DecodingPlugin {
+    
+    /**
+     * Plugin name of logical replication slot.
+     */
+    public static final String PLUGIN_NAME = "pgoutput";
+    
+    /**
+     * Publication name which pgoutput slot subscribes to.
+     */
+    public static final String PUBLICATION_NAME = "shardingsphere_pipeline";
+    
+    private static final int BOOL_OID = 16;
+    
+    private static final int BYTEA_OID = 17;
+    
+    private static final int INT8_OID = 20;
+    
+    private static final int INT2_OID = 21;
+    
+    private static final int INT4_OID = 23;
+    
+    private static final int FLOAT4_OID = 700;
+    
+    private static final int FLOAT8_OID = 701;
+    
+    private static final int DATE_OID = 1082;
+    
+    private static final int TIME_OID = 1083;
+    
+    private static final int TIMESTAMP_OID = 1114;
+    
+    private static final int NUMERIC_OID = 1700;
+    
+    private final BaseTimestampUtils timestampUtils;
+    
+    private final PipelineTableMetaDataLoader metaDataLoader;
+    
+    private final Map<Integer, PgOutputRelation> relations = new HashMap<>();
+    
+    private long currentXid;
+    
+    @Override
+    public AbstractWALEvent decode(final ByteBuffer data, final BaseLogSequenceNumber logSequenceNumber) {
+        AbstractWALEvent result = decodeMessage(data);
+        result.setLogSequenceNumber(logSequenceNumber);
+        return result;
+    }
+    
+    private AbstractWALEvent decodeMessage(final ByteBuffer data) {
+        char messageType = (char) data.get();
+        switch (messageType) {
+            case 'B':
+                // final LSN and commit timestamp
+                data.position(data.position() + 16);
+                currentXid = Integer.toUnsignedLong(data.getInt());
+                return new BeginTXEvent(currentXid, null);
+            case 'C':
+                return new CommitTXEvent(currentXid, null);
+            case 'R':
+                readRelation(data);
+                return new PlaceholderEvent();
+            case 'I':
+                return readWriteRowEvent(data);
+            case 'U':
+                return readUpdateRowEvent(data);
+            case 'D':
+                return readDeleteRowEvent(data);
+            default:
+                return new PlaceholderEvent();
+        }
+    }
+    
+    private void readRelation(final ByteBuffer data) {
+        int relationId = data.getInt();
+        String schemaName = readCString(data);
+        String tableName = readCString(data);
+        // replica identity
+        data.get();
+        int columnCount = data.getShort();
+        String[] columnNames = new String[columnCount];
+        int[] columnTypeOids = new int[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            // flags, key columns of replica identity are not used, primary key columns are picked by table meta data
+            data.get();
+            columnNames[i] = readCString(data);
+            columnTypeOids[i] = data.getInt();
+            // type modifier
+            data.getInt();
+        }
+        relations.put(relationId, new PgOutputRelation(schemaName, tableName, columnNames, columnTypeOids));
+    }
+    
+    private AbstractRowEvent readWriteRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        checkTupleType('N', (char) data.get());
+        WriteRowEvent result = new WriteRowEvent();
+        result.setAfterRow(readTupleData(data, relation, null));
+        return setTableName(result, relation);
+    }
+    
+    private AbstractRowEvent readUpdateRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        char tupleType = (char) data.get();
+        List<Object> beforeRow = null;
+        if ('K' == tupleType || 'O' == tupleType) {
+            List<Object> oldTuple = readTupleData(data, relation, null);
+            // Only old tuple of replica identity full contains the whole before row, old tuple of replica identity key only contains key columns
+            beforeRow = 'O' == tupleType ? oldTuple : null;
+            tupleType = (char) data.get();
+        }
+        checkTupleType('N', tupleType);
+        UpdateRowEvent result = new UpdateRowEvent();
+        result.setAfterRow(readTupleData(data, relation, beforeRow));
+        return setTableName(result, relation);
+    }
+    
+    private AbstractRowEvent readDeleteRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        // 'K' for replica identity key, 'O' for replica identity full, both tuples are full width with null for columns out of replica identity
+        data.get();
+        List<Object> beforeRow = readTupleData(data, relation, null);
+        DeleteRowEvent result = new DeleteRowEvent();
+        result.setPrimaryKeys(getPrimaryKeyValues(relation, beforeRow));
+        return setTableName(result, relation);
+    }
+    
+    private List<Object> getPrimaryKeyValues(final PgOutputRelation relation, final List<Object> beforeRow) {
+        // Replica identity columns may be all columns, or index columns in other order than primary key, so pick primary key columns by name
+        List<String> primaryKeyColumns = metaDataLoader.getTableMetaData(relation.getSchemaName(), relation.getTableName()).getPrimaryKeyColumns();
+        List<Object> result = new ArrayList<>(primaryKeyColumns.size());
+        for (String each : primaryKeyColumns) {
+            result.add(beforeRow.get(getColumnIndex(relation, each)));
+        }
+        return result;
+    }
+    
+    private int getColumnIndex(final PgOutputRelation relation, final String columnName) {
+        String[] columnNames = relation.getColumnNames();
+        for (int i = 0; i < columnNames.length; i++) {
+            if (columnNames[i].equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        throw new IngestException(String.format("Primary key column `%s` is not found in relation `%s.%s`", columnName, relation.getSchemaName(), relation.getTableName()));
+    }
+    
+    private PgOutputRelation getRelation(final int relationId) {
+        PgOutputRelation result = relations.get(relationId);
+        if (null == result) {
+            throw new IngestException("Unknown relation id: " + Integer.toUnsignedString(relationId));
+        }
+        return result;
+    }
+    
+    private void checkTupleType(final char expected, final char actual) {
+        if (expected != actual) {
+            throw new IngestException(String.format("Unexpected tuple type `%s`, expected `%s`", actual, expected));
+        }
+    }
+    
+    private AbstractRowEvent setTableName(final AbstractRowEvent rowEvent, final PgOutputRelation relation) {
+        rowEvent.setSchemaName(relation.getSchemaName());
+        rowEvent.setTableName(relation.getTableName());
+        return rowEvent;
+    }
+    
+    private List<Object> readTupleData(final ByteBuffer data, final PgOutputRelation relation, final List<Object> beforeRow) {
+        int columnCount = data.getShort();
+        int[] columnTypeOids = relation.getColumnTypeOids();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            char columnDataType = (char) data.get();
+            switch (columnDataType) {
+                case 'n':
+                    result.add(null);
+                    break;
+                case 'u':
+                    result.add(getUnchangedToastValue(beforeRow, i));
+                    break;
+                case 't':
+                    int length = data.getInt();
+                    result.add(readTextValue(data, length, columnTypeOids[i]));
+                    data.position(data.position() + length);
+                    break;
+                default:
+                    throw new IngestException(String.format("Unsupported tuple column data type `%s`", columnDataType));
+            }
+        }
+        return result;
+    }
+    
+    private Object getUnchangedToastValue(final List<Object> beforeRow, final int columnIndex) {
+        // Unchanged TOAST value is only available from old tuple when replica identity is full, never substitute null for it
+        if (null == beforeRow) {
+            throw new IngestException("Unchanged TOAST value is not available, please set REPLICA IDENTITY FULL on source table");
+        }
+        return beforeRow.get(columnIndex);
+    }
+    
+    private Object readTextValue(final ByteBuffer data, final int length, final int typeOid) {
+        switch (typeOid) {
+            case INT2_OID:
+                return (short) readLong(data, length);
+            case INT4_OID:
+                return (int) readLong(data, length);
+            case INT8_OID:
+                return readLong(data, length);
+            case BOOL_OID:
+                return 't' == data.get(data.position());
+            case FLOAT4_OID:
+                return Float.parseFloat(readString(data, length));
+            case FLOAT8_OID:
+                return Double.parseDouble(readString(data, length));
+            case NUMERIC_OID:
+                return new BigDecimal(readString(data, length));
+            case DATE_OID:
+                return Date.valueOf(readString(data, length));
+            case TIME_OID:
+                try {
+                    return timestampUtils.toTime(null, readString(data, length));
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case TIMESTAMP_OID:
+                try {
+                    return timestampUtils.toTimestamp(null, readString(data, length));
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case BYTEA_OID:
+                return readHexBytes(data, length);
+            default:
+                return readString(data, length);
+        }
+    }
+    
+    private long readLong(final ByteBuffer data, final int length) {
+        int position = data.position();
+        boolean negative = '-' == data.get(position);
+        long result = 0L;
+        for (int i = negative ? 1 : 0; i < length; i++) {
+            result = result * 10L + (data.get(position + i) - '0');
+        }
+        return negative ? -result : result;
+    }
+    
+    private String readString(final ByteBuffer data, final int length) {
+        return readString(data, data.position(), length);
+    }
+    
+    private String readString(final ByteBuffer data, final int position, final int length) {
+        if (data.hasArray()) {
+            return new String(data.array(), data.arrayOffset() + position, length, StandardCharsets.UTF_8);
+        }
+        byte[] result = new byte[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = data.get(position + i);
+        }
+        return new String(result, StandardCharsets.UTF_8);
+    }
+    
+    private byte[] readHexBytes(final ByteBuffer data, final int length) {
+        // bytea hex output format: \x0a0b
+        int position = data.position() + 2;
+        byte[] result = new byte[(length - 2) >>> 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (byte) ((Character.digit(data.get(position + i * 2), 16) << 4) + Character.digit(data.get(position + i * 2 + 1), 16));
+        }
+        return result;
+    }
+    
+    private String readCString(final ByteBuffer data) {
+        int startPosition = data.position();
+        while (0 != data.get()) {
+            // skip to the null terminator
+        }
+        return readString(data, startPosition, data.position() - startPosition - 1);
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import org.apache.shardingsphere.data.pipeline.core.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PgOutputDecodingPluginTest {
+    
+    private final PostgreSQLLogSequenceNumber logSequenceNumber = new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf("0/14EFDB8"));
+    
+    private PgOutputDecodingPlugin decodingPlugin;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        PipelineTableMetaDataLoader metaDataLoader = mock(PipelineTableMetaDataLoader.class, RETURNS_DEEP_STUBS);
+        when(metaDataLoader.getTableMetaData("public", "t_order").getPrimaryKeyColumns()).thenReturn(Collections.singletonList("order_id"));
+        when(metaDataLoader.getTableMetaData("public", "t_order_full").getPrimaryKeyColumns()).thenReturn(Collections.singletonList("ORDER_ID"));
+        when(metaDataLoader.getTableMetaData("public", "t_order_item").getPrimaryKeyColumns()).thenReturn(Arrays.asList("order_id", "item_id"));
+        decodingPlugin = new PgOutputDecodingPlugin(null, metaDataLoader);
+        assertThat(decodingPlugin.decode(createRelationMessage(16384, "t_order", 'd'), logSequenceNumber), instanceOf(PlaceholderEvent.class));
+        assertThat(decodingPlugin.decode(createRelationMessage(16385, "t_order_full", 'f'), logSequenceNumber), instanceOf(PlaceholderEvent.class));
+        assertThat(decodingPlugin.decode(createCompositeKeyRelationMessage(), logSequenceNumber), instanceOf(PlaceholderEvent.class));
+    }
+    
+    private ByteBuffer createRelationMessage(final int relationId, final String tableName, final char replicaIdentity) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(result);
+        output.writeByte('R');
+        output.writeInt(relationId);
+        writeCString(output, "public");
+        writeCString(output, tableName);
+        output.writeByte(replicaIdentity);
+        int nonKeyFlags = 'f' == replicaIdentity ? 1 : 0;
+        output.writeShort(5);
+        writeColumn(output, 1, "order_id", 23);
+        writeColumn(output, nonKeyFlags, "status", 1043);
+        writeColumn(output, nonKeyFlags, "amount", 1700);
+        writeColumn(output, nonKeyFlags, "content", 17);
+        writeColumn(output, nonKeyFlags, "deleted", 16);
+        return ByteBuffer.wrap(result.toByteArray());
+    }
+    
+    private ByteBuffer createCompositeKeyRelationMessage() throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(result);
+        output.writeByte('R');
+        output.writeInt(16386);
+        writeCString(output, "public");
+        writeCString(output, "t_order_item");
+        output.writeByte('d');
+        output.writeShort(3);
+        writeColumn(output, 1, "item_id", 23);
+        writeColumn(output, 0, "status", 1043);
+        writeColumn(output, 1, "order_id", 23);
+        return ByteBuffer.wrap(result.toByteArray());
+    }
+    
+    private void writeColumn(final DataOutputStream output, final int flags, final String name, final int typeOid) throws IOException {
+        output.writeByte(flags);
+        writeCString(output, name);
+        output.writeInt(typeOid);
+        output.writeInt(-1);
+    }
+    
+    private void writeCString(final DataOutputStream output, final String value) throws IOException {
+        output.write(value.getBytes(StandardCharsets.UTF_8));
+        output.writeByte(0);
+    }
+    
+    private void writeTuple(final DataOutputStream output, final String... values) throws IOException {
+        output.writeShort(values.length);
+        for (String each : values) {
+            if (null == each) {
+                output.writeByte('n');
+            } else if ("\0u".equals(each)) {
+                output.writeByte('u');
+            } else {
+                byte[] bytes = each.getBytes(StandardCharsets.UTF_8);
+                output.writeByte('t');
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+        }
+    }
+    
+    @Test
+    void assertDecodeBeginAndCommitTxEvent() throws IOException {
+        ByteArrayOutputStream begin = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(begin);
+        output.writeByte('B');
+        output.writeLong(1L);
+        output.writeLong(2L);
+        output.writeInt(616281);
+        BeginTXEvent actualBegin = (BeginTXEvent) decodingPlugin.decode(ByteBuffer.wrap(begin.toByteArray()), logSequenceNumber);
+        assertThat(actualBegin.getXid(), is(616281L));
+        assertThat(actualBegin.getLogSequenceNumber(), is(logSequenceNumber));
+        ByteBuffer commit = ByteBuffer.allocate(26);
+        commit.put((byte) 'C');
+        commit.flip();
+        CommitTXEvent actualCommit = (CommitTXEvent) decodingPlugin.decode(commit, logSequenceNumber);
+        assertThat(actualCommit.getXid(), is(616281L));
+    }
+    
+    @Test
+    void assertDecodeWriteRowEvent() throws IOException {
+        ByteArrayOutputStream insert = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(insert);
+        output.writeByte('I');
+        output.writeInt(16384);
+        output.writeByte('N');
+        writeTuple(output, "-12", " 1 2 3' 😊中", "1.50", "\\x0aff", "t");
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(ByteBuffer.wrap(insert.toByteArray()), logSequenceNumber);
+        assertThat(actual.getSchemaName(), is("public"));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow().get(0), is(-12));
+        assertThat(actual.getAfterRow().get(1), is(" 1 2 3' 😊中"));
+        assertThat(actual.getAfterRow().get(2), is(new BigDecimal("1.50")));
+        assertThat(actual.getAfterRow().get(3), is(new byte[]{10, -1}));
+        assertThat(actual.getAfterRow().get(4), is(true));
+    }
+    
+    @Test
+    void assertDecodeUpdateRowEventWithUnchangedToastValue() throws IOException {
+        ByteArrayOutputStream update = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(update);
+        output.writeByte('U');
+        output.writeInt(16384);
+        output.writeByte('O');
+        writeTuple(output, "1", "old", null, "\\x01", "f");
+        output.writeByte('N');
+        writeTuple(output, "1", "new", null, "\0u", "f");
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(ByteBuffer.wrap(update.toByteArray()), logSequenceNumber);
+        assertThat(actual.getAfterRow().get(1), is("new"));
+        assertNull(actual.getAfterRow().get(2));
+        assertThat(actual.getAfterRow().get(3), is(new byte[]{1}));
+        assertThat(actual.getAfterRow().get(4), is(false));
+    }
+    
+    @Test
+    void assertDecodeUpdateRowEventWithoutOldTupleForUnchangedToastValue() throws IOException {
+        ByteArrayOutputStream update = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(update);
+        output.writeByte('U');
+        output.writeInt(16384);
+        output.writeByte('N');
+        writeTuple(output, "1", "new", null, "\0u", "f");
+        assertThrows(IngestException.class, () -> decodingPlugin.decode(ByteBuffer.wrap(update.toByteArray()), logSequenceNumber));
+    }
+    
+    @Test
+    void assertDecodeUpdateRowEventWithKeyOldTupleForUnchangedToastValue() throws IOException {
+        ByteArrayOutputStream update = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(update);
+        output.writeByte('U');
+        output.writeInt(16384);
+        output.writeByte('K');
+        writeTuple(output, "1", null, null, null, null);
+        output.writeByte('N');
+        writeTuple(output, "2", "new", null, "\0u", "f");
+        assertThrows(IngestException.class, () -> decodingPlugin.decode(ByteBuffer.wrap(update.toByteArray()), logSequenceNumber));
+    }
+    
+    @Test
+    void assertDecodeDeleteRowEvent() throws IOException {
+        ByteArrayOutputStream delete = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(delete);
+        output.writeByte('D');
+        output.writeInt(16384);
+        output.writeByte('K');
+        writeTuple(output, "9223372036854775807", null, null, null, null);
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(ByteBuffer.wrap(delete.toByteArray()), logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getPrimaryKeys().size(), is(1));
+    }
+    
+    @Test
+    void assertDecodeDeleteRowEventWithCompositeKeyInOtherColumnOrder() throws IOException {
+        ByteArrayOutputStream delete = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(delete);
+        output.writeByte('D');
+        output.writeInt(16386);
+        output.writeByte('K');
+        writeTuple(output, "10", null, "20");
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(ByteBuffer.wrap(delete.toByteArray()), logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order_item"));
+        assertThat(actual.getPrimaryKeys(), is(Arrays.<Object>asList(20, 10)));
+    }
+    
+    @Test
+    void assertDecodeDeleteRowEventWithFullOldTuple() throws IOException {
+        ByteArrayOutputStream delete = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(delete);
+        output.writeByte('D');
+        output.writeInt(16385);
+        output.writeByte('O');
+        writeTuple(output, "3", "old", "1.50", "\\x01", "f");
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(ByteBuffer.wrap(delete.toByteArray()), logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order_full"));
+        assertThat(actual.getPrimaryKeys().size(), is(1));
+        assertThat(actual.getPrimaryKeys().get(0), is(3));
+    }
+    
+    @Test
+    void assertDecodeWithUnknownRelation() throws IOException {
+        ByteArrayOutputStream insert = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(insert);
+        output.writeByte('I');
+        output.writeInt(1);
+        output.writeByte('N');
+        writeTuple(output, "1");
+        assertThrows(IngestException.class, () -> decodingPlugin.decode(ByteBuffer.wrap(insert.toByteArray()), logSequenceNumber));
+    }
+}
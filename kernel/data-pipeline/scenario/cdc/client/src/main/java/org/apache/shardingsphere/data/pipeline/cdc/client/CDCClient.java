@@ -133,7 +133,8 @@ public final class CDCClient implements AutoCloseable {
             throw new IllegalStateException("The client is already logged in");
         }
         LoginRequestBody loginRequestBody = LoginRequestBody.newBuilder().setType(LoginType.BASIC).setBasicBody(BasicBody.newBuilder().setUsername(parameter.getUsername())
-                .setPassword(Hashing.sha256().hashBytes(parameter.getPassword().getBytes()).toString().toUpperCase()).build()).build();
+                .setPassword(Hashing.sha256().hashBytes(parameter.getPassword().getBytes()).toString().toUpperCase()).build()).setCompressionType(parameter.getCompressionType())
+                .setRecordEncoding(parameter.getRecordEncoding()).build();
         String requestId = RequestIdUtils.generateRequestId();
         CDCRequest data = CDCRequest.newBuilder().setType(Type.LOGIN).setVersion(1).setRequestId(requestId).setLoginRequestBody(loginRequestBody).build();
         ResponseFuture responseFuture = new ResponseFuture(requestId, Type.LOGIN);
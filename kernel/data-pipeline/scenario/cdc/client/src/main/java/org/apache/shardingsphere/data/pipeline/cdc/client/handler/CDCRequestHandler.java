@@ -19,17 +19,21 @@ package org.apache.shardingsphere.data.pipeline.cdc.client.handler;
 
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.compression.SnappyFrameDecoder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.cdc.client.constant.ClientConnectionStatus;
 import org.apache.shardingsphere.data.pipeline.cdc.client.context.ClientConnectionContext;
+import org.apache.shardingsphere.data.pipeline.cdc.client.util.DataRecordBlockResultConverter;
 import org.apache.shardingsphere.data.pipeline.cdc.client.util.ResponseFuture;
 import org.apache.shardingsphere.data.pipeline.cdc.client.util.ServerErrorResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.AckStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest.Type;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CompressionType;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ServerGreetingResult;
@@ -94,6 +98,9 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
             return;
         }
         if (ClientConnectionStatus.NOT_LOGGED_IN == connectionContext.getStatus().get() && responseFuture.isPresent() && Type.LOGIN == responseFuture.get().getRequestType()) {
+            if (response.hasLoginResult() && CompressionType.SNAPPY == response.getLoginResult().getCompressionType()) {
+                ctx.pipeline().addFirst(new SnappyFrameDecoder());
+            }
             responseFuture.ifPresent(ResponseFuture::countDown);
             connectionContext.getStatus().set(ClientConnectionStatus.LOGGED_IN);
             return;
@@ -104,13 +111,24 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
             connectionContext.getStreamingIds().add(streamDataResult.getStreamingId());
         } else if (response.hasDataRecordResult()) {
             processDataRecords(ctx, response.getDataRecordResult());
+        } else if (response.hasDataRecordBlockResult()) {
+            processDataRecordBlocks(ctx, response.getDataRecordBlockResult());
         }
         responseFuture.ifPresent(ResponseFuture::countDown);
     }
     
     private void processDataRecords(final ChannelHandlerContext ctx, final DataRecordResult result) {
         consumer.accept(result.getRecordList());
-        ctx.channel().writeAndFlush(CDCRequest.newBuilder().setType(Type.ACK_STREAMING).setAckStreamingRequestBody(AckStreamingRequestBody.newBuilder().setAckId(result.getAckId()).build()).build());
+        ackStreaming(ctx, result.getAckId());
+    }
+    
+    private void processDataRecordBlocks(final ChannelHandlerContext ctx, final DataRecordBlockResult result) {
+        consumer.accept(DataRecordBlockResultConverter.convertToRecords(result));
+        ackStreaming(ctx, result.getAckId());
+    }
+    
+    private void ackStreaming(final ChannelHandlerContext ctx, final String ackId) {
+        ctx.channel().writeAndFlush(CDCRequest.newBuilder().setType(Type.ACK_STREAMING).setAckStreamingRequestBody(AckStreamingRequestBody.newBuilder().setAckId(ackId).build()).build());
     }
     
     @Override
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.data.pipeline.cdc.client.parameter;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CompressionType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordEncoding;
 
 /**
  * CDC login parameter.
@@ -30,4 +32,16 @@ public final class CDCLoginParameter {
     private final String username;
     
     private final String password;
+    
+    private final CompressionType compressionType;
+    
+    private final RecordEncoding recordEncoding;
+    
+    public CDCLoginParameter(final String username, final String password) {
+        this(username, password, CompressionType.NONE);
+    }
+    
+    public CDCLoginParameter(final String username, final String password, final CompressionType compressionType) {
+        this(username, password, compressionType, RecordEncoding.ROW);
+    }
 }
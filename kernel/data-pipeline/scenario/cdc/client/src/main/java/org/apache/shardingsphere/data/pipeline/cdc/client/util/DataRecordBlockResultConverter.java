@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.client.util;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.BoolValue;
+import com.google.protobuf.BytesValue;
+import com.google.protobuf.DoubleValue;
+import com.google.protobuf.Empty;
+import com.google.protobuf.FloatValue;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.StringValue;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult.ColumnVector;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult.RecordBlock;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.MetaData;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableColumn;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Data record block result converter.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataRecordBlockResultConverter {
+    
+    private static final Any NULL_VALUE = Any.pack(Empty.getDefaultInstance());
+    
+    /**
+     * Convert data record block result to records, which are the same as the records of data record result.
+     *
+     * @param blockResult data record block result
+     * @return records
+     */
+    public static List<Record> convertToRecords(final DataRecordBlockResult blockResult) {
+        List<Record> result = new ArrayList<>();
+        for (RecordBlock each : blockResult.getRecordBlockList()) {
+            result.addAll(convertToRecords(blockResult.getDictionaryList(), each));
+        }
+        return result;
+    }
+    
+    private static List<Record> convertToRecords(final List<String> dictionary, final RecordBlock block) {
+        int rowCount = block.getTransactionCommitMillisCount();
+        List<List<Any>> beforeValues = new ArrayList<>(block.getBeforeCount());
+        List<List<Any>> afterValues = new ArrayList<>(block.getAfterCount());
+        for (int i = 0; i < block.getColumnNameCount(); i++) {
+            beforeValues.add(convertToValues(dictionary, block.getBefore(i), rowCount));
+            afterValues.add(convertToValues(dictionary, block.getAfter(i), rowCount));
+        }
+        MetaData metaData = MetaData.newBuilder().setDatabase(dictionary.get(block.getDatabase())).setSchema(dictionary.get(block.getSchema())).setTable(dictionary.get(block.getTable())).build();
+        List<Record> result = new ArrayList<>(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            Record.Builder record = Record.newBuilder().setMetaData(metaData).setTransactionCommitMillis(block.getTransactionCommitMillis(row)).setDataChangeType(block.getDataChangeType());
+            for (int column = 0; column < block.getColumnNameCount(); column++) {
+                String columnName = dictionary.get(block.getColumnName(column));
+                record.addBefore(TableColumn.newBuilder().setName(columnName).setValue(beforeValues.get(column).get(row)).build());
+                record.addAfter(TableColumn.newBuilder().setName(columnName).setValue(afterValues.get(column).get(row)).build());
+            }
+            result.add(record.build());
+        }
+        return result;
+    }
+    
+    private static List<Any> convertToValues(final List<String> dictionary, final ColumnVector vector, final int rowCount) {
+        Set<Integer> nullRows = new HashSet<>(vector.getNullRowList());
+        Iterator<Any> values = convertToNonNullValues(dictionary, vector).iterator();
+        List<Any> result = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            result.add(nullRows.contains(i) ? NULL_VALUE : values.next());
+        }
+        return result;
+    }
+    
+    private static List<Any> convertToNonNullValues(final List<String> dictionary, final ColumnVector vector) {
+        List<Any> result = new ArrayList<>();
+        switch (vector.getValuesCase()) {
+            case INT64_VALUES:
+                boolean int32 = Int32Value.getDescriptor().getFullName().equals(dictionary.get(vector.getTypeName()));
+                vector.getInt64Values().getValueList().forEach(each -> result.add(int32 ? Any.pack(Int32Value.of(each.intValue())) : Any.pack(Int64Value.of(each))));
+                return result;
+            case DOUBLE_VALUES:
+                boolean floatType = FloatValue.getDescriptor().getFullName().equals(dictionary.get(vector.getTypeName()));
+                vector.getDoubleValues().getValueList().forEach(each -> result.add(floatType ? Any.pack(FloatValue.of(each.floatValue())) : Any.pack(DoubleValue.of(each))));
+                return result;
+            case STRING_VALUES:
+                vector.getStringValues().getValueList().forEach(each -> result.add(Any.pack(StringValue.of(each))));
+                return result;
+            case BYTES_VALUES:
+                vector.getBytesValues().getValueList().forEach(each -> result.add(Any.pack(BytesValue.of(each))));
+                return result;
+            case BOOL_VALUES:
+                vector.getBoolValues().getValueList().forEach(each -> result.add(Any.pack(BoolValue.of(each))));
+                return result;
+            case ANY_VALUES:
+                return vector.getAnyValues().getValueList();
+            default:
+                return Collections.emptyList();
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.cdc.client.config.CDCClientConfig
 import org.apache.shardingsphere.data.pipeline.cdc.client.handler.RetryStreamingExceptionHandler;
 import org.apache.shardingsphere.data.pipeline.cdc.client.parameter.CDCLoginParameter;
 import org.apache.shardingsphere.data.pipeline.cdc.client.parameter.StartStreamingParameter;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CompressionType;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamDataRequestBody.SchemaTable;
 
 import java.util.Collections;
@@ -44,7 +45,7 @@ public final class Bootstrap {
         try (CDCClient cdcClient = new CDCClient(new CDCClientConfiguration(address, 33071, 10000))) {
             cdcClient.connect(records -> log.info("records: {}", records), new RetryStreamingExceptionHandler(cdcClient, 5, 5000),
                     (ctx, result) -> log.error("Server error: {}", result.getErrorMessage()));
-            cdcClient.login(new CDCLoginParameter("root", "root"));
+            cdcClient.login(new CDCLoginParameter("root", "root", CompressionType.SNAPPY));
             String streamingId = cdcClient.startStreaming(new StartStreamingParameter("sharding_db", Collections.singleton(SchemaTable.newBuilder().setTable("t_order").build()), true));
             log.info("Streaming id={}", streamingId);
             cdcClient.await();
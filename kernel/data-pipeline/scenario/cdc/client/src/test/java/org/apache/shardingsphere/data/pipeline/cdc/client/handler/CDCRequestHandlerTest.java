@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.client.handler;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.SnappyFrameDecoder;
+import io.netty.handler.codec.compression.SnappyFrameEncoder;
+import io.netty.handler.codec.protobuf.ProtobufDecoder;
+import io.netty.handler.codec.protobuf.ProtobufEncoder;
+import io.netty.handler.codec.protobuf.ProtobufVarint32FrameDecoder;
+import io.netty.handler.codec.protobuf.ProtobufVarint32LengthFieldPrepender;
+import org.apache.shardingsphere.data.pipeline.cdc.client.constant.ClientConnectionStatus;
+import org.apache.shardingsphere.data.pipeline.cdc.client.context.ClientConnectionContext;
+import org.apache.shardingsphere.data.pipeline.cdc.client.util.ResponseFuture;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest.Type;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CompressionType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult.RecordBlock;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.DataChangeType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.MetaData;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.LoginResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+class CDCRequestHandlerTest {
+    
+    private static final byte SNAPPY_STREAM_IDENTIFIER = (byte) 0xff;
+    
+    @Test
+    void assertReceiveSnappyCompressedDataRecordsAfterLogin() {
+        EmbeddedChannel serverChannel = new EmbeddedChannel(new ProtobufVarint32LengthFieldPrepender(), new ProtobufEncoder());
+        List<Record> receivedRecords = new LinkedList<>();
+        EmbeddedChannel clientChannel = new EmbeddedChannel(new ProtobufVarint32FrameDecoder(), new ProtobufDecoder(CDCResponse.getDefaultInstance()),
+                new ProtobufVarint32LengthFieldPrepender(), new ProtobufEncoder(), new CDCRequestHandler(receivedRecords::addAll, mock(ExceptionHandler.class), mock(ServerErrorResultHandler.class)));
+        ClientConnectionContext connectionContext = clientChannel.attr(ClientConnectionContext.CONTEXT_KEY).get();
+        connectionContext.getResponseFutureMap().put("login_id", new ResponseFuture("login_id", Type.LOGIN));
+        serverChannel.writeOutbound(CDCResponse.newBuilder().setRequestId("login_id").setStatus(Status.SUCCEED)
+                .setLoginResult(LoginResult.newBuilder().setCompressionType(CompressionType.SNAPPY).build()).build());
+        serverChannel.pipeline().addFirst(new SnappyFrameEncoder());
+        assertNull(clientChannel.pipeline().get(SnappyFrameDecoder.class));
+        transfer(serverChannel, clientChannel, false);
+        assertThat(connectionContext.getStatus().get(), is(ClientConnectionStatus.LOGGED_IN));
+        assertNotNull(clientChannel.pipeline().get(SnappyFrameDecoder.class));
+        Record record = Record.newBuilder().setMetaData(MetaData.newBuilder().setDatabase("foo_db").setTable("foo_tbl").build()).setDataChangeType(DataChangeType.INSERT).build();
+        serverChannel.writeOutbound(CDCResponse.newBuilder().setRequestId("stream_id").setStatus(Status.SUCCEED)
+                .setDataRecordResult(DataRecordResult.newBuilder().setAckId("foo_ack").addRecord(record).build()).build());
+        transfer(serverChannel, clientChannel, true);
+        assertThat(receivedRecords.size(), is(1));
+        assertThat(receivedRecords.get(0), is(record));
+        assertNotNull(clientChannel.readOutbound());
+    }
+    
+    @Test
+    void assertReceiveDataRecordBlocks() {
+        List<Record> receivedRecords = new LinkedList<>();
+        EmbeddedChannel clientChannel = new EmbeddedChannel(new CDCRequestHandler(receivedRecords::addAll, mock(ExceptionHandler.class), mock(ServerErrorResultHandler.class)));
+        clientChannel.attr(ClientConnectionContext.CONTEXT_KEY).get().getStatus().set(ClientConnectionStatus.LOGGED_IN);
+        RecordBlock block = RecordBlock.newBuilder().setDatabase(0).setSchema(1).setTable(2).setDataChangeType(DataChangeType.DELETE).addTransactionCommitMillis(1L).build();
+        clientChannel.writeInbound(CDCResponse.newBuilder().setRequestId("").setStatus(Status.SUCCEED).setDataRecordBlockResult(
+                DataRecordBlockResult.newBuilder().setAckId("foo_ack").addDictionary("foo_db").addDictionary("").addDictionary("foo_tbl").addRecordBlock(block).build()).build());
+        assertThat(receivedRecords.size(), is(1));
+        assertThat(receivedRecords.get(0).getMetaData().getTable(), is("foo_tbl"));
+        assertThat(receivedRecords.get(0).getDataChangeType(), is(DataChangeType.DELETE));
+        CDCRequest actualAckRequest = clientChannel.readOutbound();
+        assertThat(actualAckRequest.getAckStreamingRequestBody().getAckId(), is("foo_ack"));
+    }
+    
+    private void transfer(final EmbeddedChannel serverChannel, final EmbeddedChannel clientChannel, final boolean expectedCompressed) {
+        ByteBuf each;
+        while (null != (each = serverChannel.readOutbound())) {
+            assertThat(SNAPPY_STREAM_IDENTIFIER == each.getByte(each.readerIndex()), is(expectedCompressed));
+            clientChannel.writeInbound(each);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.client.util;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.Empty;
+import com.google.protobuf.FloatValue;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult.AnyValues;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult.ColumnVector;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult.DoubleValues;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult.Int64Values;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult.RecordBlock;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult.StringValues;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.DataChangeType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.MetaData;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableColumn;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DataRecordBlockResultConverterTest {
+    
+    @Test
+    void assertConvertToRecords() {
+        Timestamp createTime = Timestamp.newBuilder().setSeconds(1L).build();
+        RecordBlock block = RecordBlock.newBuilder().setDatabase(0).setSchema(1).setTable(2).setDataChangeType(DataChangeType.UPDATE)
+                .addColumnName(3).addColumnName(5).addColumnName(7).addColumnName(9).addTransactionCommitMillis(10L).addTransactionCommitMillis(20L)
+                .addBefore(ColumnVector.newBuilder().setTypeName(4).setInt64Values(Int64Values.newBuilder().addValue(1L).addValue(2L)).build())
+                .addBefore(ColumnVector.newBuilder().setTypeName(6).addNullRow(0).setStringValues(StringValues.newBuilder().addValue("foo")).build())
+                .addBefore(ColumnVector.newBuilder().setTypeName(8).setDoubleValues(DoubleValues.newBuilder().addValue(1.5D).addValue(2.5D)).build())
+                .addBefore(ColumnVector.newBuilder().addNullRow(0).addNullRow(1).build())
+                .addAfter(ColumnVector.newBuilder().setTypeName(4).setInt64Values(Int64Values.newBuilder().addValue(1L).addValue(2L)).build())
+                .addAfter(ColumnVector.newBuilder().setTypeName(6).setStringValues(StringValues.newBuilder().addValue("bar").addValue("baz")).build())
+                .addAfter(ColumnVector.newBuilder().setTypeName(8).addNullRow(1).setDoubleValues(DoubleValues.newBuilder().addValue(3.5D)).build())
+                .addAfter(ColumnVector.newBuilder().setAnyValues(AnyValues.newBuilder().addValue(Any.pack(createTime)).addValue(Any.pack(StringValue.of("now")))).build()).build();
+        DataRecordBlockResult blockResult = DataRecordBlockResult.newBuilder().setAckId("foo_ack").addAllDictionary(Arrays.asList("foo_db", "", "foo_tbl", "order_id",
+                Int32Value.getDescriptor().getFullName(), "status", StringValue.getDescriptor().getFullName(), "price", FloatValue.getDescriptor().getFullName(), "create_time"))
+                .addRecordBlock(block).build();
+        List<Record> actual = DataRecordBlockResultConverter.convertToRecords(blockResult);
+        assertThat(actual.size(), is(2));
+        MetaData metaData = MetaData.newBuilder().setDatabase("foo_db").setSchema("").setTable("foo_tbl").build();
+        Record expectedFirstRecord = Record.newBuilder().setMetaData(metaData).setTransactionCommitMillis(10L).setDataChangeType(DataChangeType.UPDATE)
+                .addBefore(createTableColumn("order_id", Any.pack(Int32Value.of(1)))).addBefore(createTableColumn("status", Any.pack(Empty.getDefaultInstance())))
+                .addBefore(createTableColumn("price", Any.pack(FloatValue.of(1.5F)))).addBefore(createTableColumn("create_time", Any.pack(Empty.getDefaultInstance())))
+                .addAfter(createTableColumn("order_id", Any.pack(Int32Value.of(1)))).addAfter(createTableColumn("status", Any.pack(StringValue.of("bar"))))
+                .addAfter(createTableColumn("price", Any.pack(FloatValue.of(3.5F)))).addAfter(createTableColumn("create_time", Any.pack(createTime))).build();
+        assertThat(actual.get(0), is(expectedFirstRecord));
+        Record actualSecondRecord = actual.get(1);
+        assertThat(actualSecondRecord.getTransactionCommitMillis(), is(20L));
+        assertThat(actualSecondRecord.getBefore(1).getValue(), is(Any.pack(StringValue.of("foo"))));
+        assertThat(actualSecondRecord.getAfter(2).getValue(), is(Any.pack(Empty.getDefaultInstance())));
+        assertThat(actualSecondRecord.getAfter(3).getValue(), is(Any.pack(StringValue.of("now"))));
+    }
+    
+    private TableColumn createTableColumn(final String name, final Any value) {
+        return TableColumn.newBuilder().setName(name).setValue(value).build();
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.cdc.context;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordEncoding;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
 
 /**
@@ -35,4 +36,6 @@ public final class CDCConnectionContext {
     private volatile String database;
     
     private volatile String jobId;
+    
+    private volatile RecordEncoding recordEncoding = RecordEncoding.ROW;
 }
@@ -21,8 +21,11 @@ import io.netty.channel.Channel;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.cdc.generator.CDCResponseUtils;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordEncoding;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.ResponseCase;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.util.DataRecordBlockResultConvertUtils;
 import org.apache.shardingsphere.data.pipeline.cdc.util.DataRecordResultConvertUtils;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
@@ -59,9 +62,12 @@ public final class PipelineCDCSocketSink implements PipelineSink {
     
     private final Map<String, String> tableSchemaNameMap;
     
-    public PipelineCDCSocketSink(final Channel channel, final ShardingSphereDatabase database, final Collection<String> schemaTableNames) {
+    private final RecordEncoding recordEncoding;
+    
+    public PipelineCDCSocketSink(final Channel channel, final ShardingSphereDatabase database, final Collection<String> schemaTableNames, final RecordEncoding recordEncoding) {
         this.channel = channel;
         this.database = database;
+        this.recordEncoding = recordEncoding;
         tableSchemaNameMap = new HashMap<>(schemaTableNames.size(), 1F);
         schemaTableNames.stream().filter(each -> each.contains(".")).forEach(each -> {
             String[] split = each.split("\\.");
@@ -80,6 +86,12 @@ public final class PipelineCDCSocketSink implements PipelineSink {
         if (!channel.isActive()) {
             return new PipelineJobProgressUpdatedParameter(0);
         }
+        if (RecordEncoding.COLUMNAR_BLOCK == recordEncoding) {
+            Collection<DataRecord> dataRecords = getDataRecords(records);
+            DataRecordBlockResult dataRecordBlockResult = DataRecordBlockResultConvertUtils.convertDataRecordsToBlockResult(ackId, database.getName(), tableSchemaNameMap, dataRecords);
+            channel.writeAndFlush(CDCResponseUtils.succeed("", ResponseCase.DATA_RECORD_BLOCK_RESULT, dataRecordBlockResult));
+            return new PipelineJobProgressUpdatedParameter(dataRecords.size());
+        }
         Collection<DataRecordResult.Record> resultRecords = getResultRecords(records);
         DataRecordResult dataRecordResult = DataRecordResult.newBuilder().addAllRecord(resultRecords).setAckId(ackId).build();
         channel.writeAndFlush(CDCResponseUtils.succeed("", ResponseCase.DATA_RECORD_RESULT, dataRecordResult));
@@ -113,6 +125,16 @@ public final class PipelineCDCSocketSink implements PipelineSink {
         return result;
     }
     
+    private Collection<DataRecord> getDataRecords(final Collection<Record> records) {
+        Collection<DataRecord> result = new LinkedList<>();
+        for (Record each : records) {
+            if (each instanceof DataRecord) {
+                result.add((DataRecord) each);
+            }
+        }
+        return result;
+    }
+    
     @Override
     public void close() throws IOException {
         channel.writeAndFlush(CDCResponseUtils.failed("", XOpenSQLState.GENERAL_ERROR.getValue(), "The socket channel is closed."));
@@ -24,7 +24,9 @@ import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Builder;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.ResponseCase;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.LoginResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ServerGreetingResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.StreamDataResult;
 import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
@@ -63,9 +65,15 @@ public final class CDCResponseUtils {
             case DATA_RECORD_RESULT:
                 result.setDataRecordResult((DataRecordResult) response);
                 break;
+            case DATA_RECORD_BLOCK_RESULT:
+                result.setDataRecordBlockResult((DataRecordBlockResult) response);
+                break;
             case STREAM_DATA_RESULT:
                 result.setStreamDataResult((StreamDataResult) response);
                 break;
+            case LOGIN_RESULT:
+                result.setLoginResult((LoginResult) response);
+                break;
             case RESPONSE_NOT_SET:
                 break;
             default:
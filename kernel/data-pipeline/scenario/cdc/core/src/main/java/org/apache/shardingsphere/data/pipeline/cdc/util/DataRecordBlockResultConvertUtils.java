@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.util;
+
+import com.google.common.base.Strings;
+import com.google.protobuf.Any;
+import com.google.protobuf.BoolValue;
+import com.google.protobuf.BytesValue;
+import com.google.protobuf.DoubleValue;
+import com.google.protobuf.Empty;
+import com.google.protobuf.FloatValue;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult.AnyValues;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult.BoolValues;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult.BytesValues;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult.ColumnVector;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult.DoubleValues;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult.Int64Values;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult.RecordBlock;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult.StringValues;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data record block result convert utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataRecordBlockResultConvertUtils {
+    
+    /**
+     * Convert data records to data record block result.
+     *
+     * <p>Consecutive records of the same table, change type and columns are put into one column oriented block, names are written once into the dictionary and referenced by index.</p>
+     *
+     * @param ackId ack id
+     * @param database database
+     * @param tableSchemaNameMap table schema name map
+     * @param dataRecords data records
+     * @return data record block result
+     */
+    public static DataRecordBlockResult convertDataRecordsToBlockResult(final String ackId, final String database, final Map<String, String> tableSchemaNameMap,
+                                                                        final Collection<DataRecord> dataRecords) {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        DataRecordBlockResult.Builder result = DataRecordBlockResult.newBuilder().setAckId(ackId);
+        List<DataRecord> blockRecords = new ArrayList<>();
+        for (DataRecord each : dataRecords) {
+            if (!blockRecords.isEmpty() && !isSameBlock(blockRecords.get(0), each)) {
+                result.addRecordBlock(convertToRecordBlock(database, tableSchemaNameMap.get(blockRecords.get(0).getTableName()), blockRecords, dictionary));
+                blockRecords.clear();
+            }
+            blockRecords.add(each);
+        }
+        if (!blockRecords.isEmpty()) {
+            result.addRecordBlock(convertToRecordBlock(database, tableSchemaNameMap.get(blockRecords.get(0).getTableName()), blockRecords, dictionary));
+        }
+        return result.addAllDictionary(dictionary.keySet()).build();
+    }
+    
+    private static boolean isSameBlock(final DataRecord first, final DataRecord dataRecord) {
+        if (!first.getTableName().equals(dataRecord.getTableName()) || first.getType() != dataRecord.getType() || first.getColumnCount() != dataRecord.getColumnCount()) {
+            return false;
+        }
+        for (int i = 0; i < first.getColumnCount(); i++) {
+            if (!first.getColumn(i).getName().equals(dataRecord.getColumn(i).getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static RecordBlock convertToRecordBlock(final String database, final String schema, final List<DataRecord> dataRecords, final Map<String, Integer> dictionary) {
+        DataRecord first = dataRecords.get(0);
+        RecordBlock.Builder result = RecordBlock.newBuilder().setDatabase(getDictionaryIndex(dictionary, database)).setSchema(getDictionaryIndex(dictionary, Strings.nullToEmpty(schema)))
+                .setTable(getDictionaryIndex(dictionary, first.getTableName())).setDataChangeType(DataRecordResultConvertUtils.getDataChangeType(first.getType()));
+        for (DataRecord each : dataRecords) {
+            result.addTransactionCommitMillis(each.getCommitTime());
+        }
+        for (int i = 0; i < first.getColumnCount(); i++) {
+            result.addColumnName(getDictionaryIndex(dictionary, first.getColumn(i).getName()));
+            List<Message> beforeValues = new ArrayList<>(dataRecords.size());
+            List<Message> afterValues = new ArrayList<>(dataRecords.size());
+            for (DataRecord each : dataRecords) {
+                Column column = each.getColumn(i);
+                beforeValues.add(ColumnValueConvertUtils.convertToProtobufMessage(column.getOldValue()));
+                afterValues.add(ColumnValueConvertUtils.convertToProtobufMessage(column.getValue()));
+            }
+            result.addBefore(convertToColumnVector(beforeValues, dictionary));
+            result.addAfter(convertToColumnVector(afterValues, dictionary));
+        }
+        return result.build();
+    }
+    
+    private static ColumnVector convertToColumnVector(final List<Message> values, final Map<String, Integer> dictionary) {
+        ColumnVector.Builder result = ColumnVector.newBuilder();
+        List<Message> nonNullValues = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            if (values.get(i) instanceof Empty) {
+                result.addNullRow(i);
+            } else {
+                nonNullValues.add(values.get(i));
+            }
+        }
+        if (nonNullValues.isEmpty()) {
+            return result.build();
+        }
+        Class<?> valueClass = nonNullValues.get(0).getClass();
+        if (!nonNullValues.stream().allMatch(each -> valueClass == each.getClass())) {
+            AnyValues.Builder anyValues = AnyValues.newBuilder();
+            nonNullValues.forEach(each -> anyValues.addValue(Any.pack(each)));
+            return result.setAnyValues(anyValues).build();
+        }
+        result.setTypeName(getDictionaryIndex(dictionary, nonNullValues.get(0).getDescriptorForType().getFullName()));
+        return setTypedValues(result, nonNullValues).build();
+    }
+    
+    private static ColumnVector.Builder setTypedValues(final ColumnVector.Builder result, final List<Message> values) {
+        Message first = values.get(0);
+        if (first instanceof Int32Value) {
+            Int64Values.Builder int64Values = Int64Values.newBuilder();
+            values.forEach(each -> int64Values.addValue(((Int32Value) each).getValue()));
+            return result.setInt64Values(int64Values);
+        }
+        if (first instanceof Int64Value) {
+            Int64Values.Builder int64Values = Int64Values.newBuilder();
+            values.forEach(each -> int64Values.addValue(((Int64Value) each).getValue()));
+            return result.setInt64Values(int64Values);
+        }
+        if (first instanceof FloatValue) {
+            DoubleValues.Builder doubleValues = DoubleValues.newBuilder();
+            values.forEach(each -> doubleValues.addValue(((FloatValue) each).getValue()));
+            return result.setDoubleValues(doubleValues);
+        }
+        if (first instanceof DoubleValue) {
+            DoubleValues.Builder doubleValues = DoubleValues.newBuilder();
+            values.forEach(each -> doubleValues.addValue(((DoubleValue) each).getValue()));
+            return result.setDoubleValues(doubleValues);
+        }
+        if (first instanceof StringValue) {
+            StringValues.Builder stringValues = StringValues.newBuilder();
+            values.forEach(each -> stringValues.addValue(((StringValue) each).getValue()));
+            return result.setStringValues(stringValues);
+        }
+        if (first instanceof BytesValue) {
+            BytesValues.Builder bytesValues = BytesValues.newBuilder();
+            values.forEach(each -> bytesValues.addValue(((BytesValue) each).getValue()));
+            return result.setBytesValues(bytesValues);
+        }
+        if (first instanceof BoolValue) {
+            BoolValues.Builder boolValues = BoolValues.newBuilder();
+            values.forEach(each -> boolValues.addValue(((BoolValue) each).getValue()));
+            return result.setBoolValues(boolValues);
+        }
+        AnyValues.Builder anyValues = AnyValues.newBuilder();
+        values.forEach(each -> anyValues.addValue(Any.pack(each)));
+        return result.setAnyValues(anyValues);
+    }
+    
+    private static int getDictionaryIndex(final Map<String, Integer> dictionary, final String value) {
+        return dictionary.computeIfAbsent(value, key -> dictionary.size());
+    }
+}
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
 
 import io.netty.channel.Channel;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordEncoding;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
@@ -31,7 +33,9 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class PipelineCDCSocketSinkTest {
@@ -43,11 +47,25 @@ class PipelineCDCSocketSinkTest {
         when(mockChannel.isActive()).thenReturn(true);
         ShardingSphereDatabase mockDatabase = mock(ShardingSphereDatabase.class);
         when(mockDatabase.getName()).thenReturn("test");
-        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(mockChannel, mockDatabase, Collections.singletonList("test.t_order"))) {
+        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(mockChannel, mockDatabase, Collections.singletonList("test.t_order"), RecordEncoding.ROW)) {
             PipelineJobProgressUpdatedParameter actual = sink.write("ack", Collections.singletonList(new FinishedRecord(new IngestPlaceholderPosition())));
             assertThat(actual.getProcessedRecordsCount(), is(0));
             actual = sink.write("ack", Collections.singletonList(new DataRecord(PipelineSQLOperationType.DELETE, "t_order", new IngestPlaceholderPosition(), 1)));
             assertThat(actual.getProcessedRecordsCount(), is(1));
         }
     }
+    
+    @Test
+    void assertWriteWithColumnarBlockEncoding() throws IOException {
+        Channel mockChannel = mock(Channel.class);
+        when(mockChannel.isWritable()).thenReturn(true);
+        when(mockChannel.isActive()).thenReturn(true);
+        ShardingSphereDatabase mockDatabase = mock(ShardingSphereDatabase.class);
+        when(mockDatabase.getName()).thenReturn("test");
+        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(mockChannel, mockDatabase, Collections.singletonList("test.t_order"), RecordEncoding.COLUMNAR_BLOCK)) {
+            PipelineJobProgressUpdatedParameter actual = sink.write("ack", Collections.singletonList(new DataRecord(PipelineSQLOperationType.DELETE, "t_order", new IngestPlaceholderPosition(), 1)));
+            assertThat(actual.getProcessedRecordsCount(), is(1));
+            verify(mockChannel).writeAndFlush(argThat(each -> ((CDCResponse) each).hasDataRecordBlockResult() && "ack".equals(((CDCResponse) each).getDataRecordBlockResult().getAckId())));
+        }
+    }
 }
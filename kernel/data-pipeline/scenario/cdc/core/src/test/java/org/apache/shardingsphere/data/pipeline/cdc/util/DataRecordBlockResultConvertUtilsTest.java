@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.util;
+
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.StringValue;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult.ColumnVector;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult.ColumnVector.ValuesCase;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordBlockResult.RecordBlock;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.DataChangeType;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DataRecordBlockResultConvertUtilsTest {
+    
+    @Test
+    void assertConvertDataRecordsToBlockResult() {
+        DataRecord insertRecord1 = createDataRecord(PipelineSQLOperationType.INSERT, "t_order", 1, "foo");
+        DataRecord insertRecord2 = createDataRecord(PipelineSQLOperationType.INSERT, "t_order", 2, null);
+        DataRecord deleteRecord = createDataRecord(PipelineSQLOperationType.DELETE, "t_order", 3, "bar");
+        DataRecordBlockResult actual = DataRecordBlockResultConvertUtils.convertDataRecordsToBlockResult(
+                "ack", "test", Collections.singletonMap("t_order", "public"), Arrays.asList(insertRecord1, insertRecord2, deleteRecord));
+        assertThat(actual.getAckId(), is("ack"));
+        assertThat(actual.getDictionaryList(),
+                is(Arrays.asList("test", "public", "t_order", "order_id", Int32Value.getDescriptor().getFullName(), "status", StringValue.getDescriptor().getFullName())));
+        assertThat(actual.getRecordBlockCount(), is(2));
+        RecordBlock insertBlock = actual.getRecordBlock(0);
+        assertThat(insertBlock.getDataChangeType(), is(DataChangeType.INSERT));
+        assertThat(insertBlock.getTable(), is(2));
+        assertThat(insertBlock.getColumnNameList(), is(Arrays.asList(3, 5)));
+        assertThat(insertBlock.getTransactionCommitMillisList(), is(Arrays.asList(1L, 1L)));
+        ColumnVector orderIdVector = insertBlock.getAfter(0);
+        assertThat(orderIdVector.getValuesCase(), is(ValuesCase.INT64_VALUES));
+        assertThat(orderIdVector.getTypeName(), is(4));
+        assertThat(orderIdVector.getInt64Values().getValueList(), is(Arrays.asList(1L, 2L)));
+        ColumnVector statusVector = insertBlock.getAfter(1);
+        assertThat(statusVector.getNullRowList(), is(Collections.singletonList(1)));
+        assertThat(statusVector.getStringValues().getValueList(), is(Collections.singletonList("foo")));
+        assertThat(insertBlock.getBefore(0).getNullRowList(), is(Arrays.asList(0, 1)));
+        assertThat(insertBlock.getBefore(0).getValuesCase(), is(ValuesCase.VALUES_NOT_SET));
+        assertThat(actual.getRecordBlock(1).getDataChangeType(), is(DataChangeType.DELETE));
+        assertThat(actual.getRecordBlock(1).getAfter(1).getStringValues().getValueList(), is(Collections.singletonList("bar")));
+    }
+    
+    private DataRecord createDataRecord(final PipelineSQLOperationType type, final String tableName, final int orderId, final String status) {
+        DataRecord result = new DataRecord(type, tableName, new IngestPlaceholderPosition(), 2);
+        result.setCommitTime(1L);
+        result.addColumn(new Column("order_id", orderId, false, true));
+        result.addColumn(new Column("status", status, false, false));
+        return result;
+    }
+}
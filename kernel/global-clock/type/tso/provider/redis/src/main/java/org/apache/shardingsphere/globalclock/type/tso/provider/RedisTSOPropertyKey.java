@@ -38,7 +38,13 @@ public enum RedisTSOPropertyKey implements TypedPropertyKey {
     
     MAX_IDLE("maxIdle", "8", int.class),
     
-    MAX_TOTAL("maxTotal", "18", int.class);
+    MAX_TOTAL("maxTotal", "18", int.class),
+    
+    LEASE_SIZE("leaseSize", "1", long.class),
+    
+    LEASE_SAFETY_WINDOW("leaseSafetyWindow", "0", long.class),
+    
+    LEASE_OWNER_TIMEOUT_MILLISECONDS("leaseOwnerTimeoutMilliseconds", "30000", long.class);
     
     private final String key;
     
@@ -18,30 +18,69 @@
 package org.apache.shardingsphere.globalclock.type.tso.provider;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.params.SetParams;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Redis timestamp oracle provider.
+ * 
+ * <p>If lease size is greater than 1, CSN ranges are leased from redis in batches and handed out locally until the lease runs out.
+ * Leasing is for single compute node only, because current timestamp is the local CSN then, which is behind the CSN leased by other compute nodes.
+ * So the provider has to acquire the lease owner key in redis with {@code SET NX PX} on init and renew it in background before leasing,
+ * and uses the shared CSN in redis by {@code INCR} and {@code GET} if the key is owned by another compute node.
+ * The owner stops leasing once the ownership can not be renewed in time, or the CSN in redis is increased by another compute node.</p>
  */
+@Slf4j
 public final class RedisTSOProvider implements TSOProvider {
     
     private static final String CSN_KEY = "csn";
     
+    private static final String LEASE_OWNER_KEY = "csn_lease_owner";
+    
+    private static final String RENEW_LEASE_OWNER_SCRIPT = "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end";
+    
     private static final long ERROR_CSN = 0;
     
     private static final long INIT_CSN = Integer.MAX_VALUE;
     
     private final AtomicBoolean initialized = new AtomicBoolean(false);
     
+    private final AtomicLong currentCSN = new AtomicLong(ERROR_CSN);
+    
+    private volatile long leasedMaxCSN = ERROR_CSN;
+    
+    private final String leaseOwnerId = UUID.randomUUID().toString();
+    
+    private volatile long leaseOwnerExpireNanos;
+    
+    private ScheduledExecutorService leaseOwnerRenewalExecutor;
+    
     private JedisPool jedisPool;
     
     private Properties props;
     
+    private long leaseSize;
+    
+    private long leaseSafetyWindow;
+    
+    private long leaseOwnerTimeoutMillis;
+    
+    private volatile boolean leaseEnabled;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
@@ -49,6 +88,14 @@ public final class RedisTSOProvider implements TSOProvider {
             createJedisPool();
             checkJedisPool();
             initCSN();
+            leaseSize = Long.parseLong(getValue(props, RedisTSOPropertyKey.LEASE_SIZE));
+            leaseSafetyWindow = Long.parseLong(getValue(props, RedisTSOPropertyKey.LEASE_SAFETY_WINDOW));
+            leaseOwnerTimeoutMillis = Long.parseLong(getValue(props, RedisTSOPropertyKey.LEASE_OWNER_TIMEOUT_MILLISECONDS));
+            leaseEnabled = leaseSize > 1L && acquireLeaseOwner();
+            if (leaseEnabled) {
+                startLeaseOwnerRenewal();
+                lease();
+            }
         }
     }
     
@@ -76,12 +123,85 @@ public final class RedisTSOProvider implements TSOProvider {
         }
     }
     
+    private boolean acquireLeaseOwner() {
+        long startNanos = System.nanoTime();
+        try (Jedis jedis = jedisPool.getResource()) {
+            if (!"OK".equals(jedis.set(LEASE_OWNER_KEY, leaseOwnerId, SetParams.setParams().nx().px(leaseOwnerTimeoutMillis)))) {
+                log.warn("CSN lease is owned by another compute node, use the shared CSN in redis");
+                return false;
+            }
+        }
+        leaseOwnerExpireNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(leaseOwnerTimeoutMillis);
+        return true;
+    }
+    
+    private void startLeaseOwnerRenewal() {
+        long renewalIntervalMillis = Math.max(leaseOwnerTimeoutMillis / 3L, 1L);
+        leaseOwnerRenewalExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("redis-tso-lease-owner-renewal").build());
+        leaseOwnerRenewalExecutor.scheduleWithFixedDelay(this::renewLeaseOwner, renewalIntervalMillis, renewalIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    private void renewLeaseOwner() {
+        if (!leaseEnabled) {
+            leaseOwnerRenewalExecutor.shutdown();
+            return;
+        }
+        long startNanos = System.nanoTime();
+        try (Jedis jedis = jedisPool.getResource()) {
+            Object renewed = jedis.eval(RENEW_LEASE_OWNER_SCRIPT, Collections.singletonList(LEASE_OWNER_KEY), Arrays.asList(leaseOwnerId, String.valueOf(leaseOwnerTimeoutMillis)));
+            if (Long.valueOf(1L).equals(renewed)) {
+                leaseOwnerExpireNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(leaseOwnerTimeoutMillis);
+                return;
+            }
+            log.warn("CSN lease owner key is lost, stop leasing CSN and use the shared CSN in redis");
+            leaseEnabled = false;
+            leaseOwnerRenewalExecutor.shutdown();
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Renew CSN lease owner key failed, will retry before the ownership expires", ex);
+        }
+    }
+    
+    private boolean isLeaseOwned() {
+        if (leaseEnabled && System.nanoTime() - leaseOwnerExpireNanos >= 0L) {
+            log.warn("CSN lease ownership is expired, stop leasing CSN and use the shared CSN in redis");
+            leaseEnabled = false;
+        }
+        return leaseEnabled;
+    }
+    
     private String getValue(final Properties props, final RedisTSOPropertyKey propertyKey) {
         return props.containsKey(propertyKey.getKey()) ? props.getProperty(propertyKey.getKey()) : propertyKey.getDefaultValue();
     }
     
+    private synchronized void lease() {
+        if (!isLeaseOwned() || currentCSN.get() < leasedMaxCSN) {
+            return;
+        }
+        try (Jedis jedis = jedisPool.getResource()) {
+            long lastCSN = currentCSN.get();
+            long result = jedis.incrBy(CSN_KEY, leaseSize);
+            if (ERROR_CSN != leasedMaxCSN && result - leaseSize > leasedMaxCSN) {
+                log.warn("CSN in redis is increased by another compute node, stop leasing CSN and use the shared CSN in redis");
+                leaseEnabled = false;
+                return;
+            }
+            if (result - leaseSize < lastCSN) {
+                // CSN in redis goes back after failover, skip the CSN which may be handed out before failover
+                result = jedis.incrBy(CSN_KEY, lastCSN - result + leaseSize + leaseSafetyWindow);
+            }
+            // Current CSN must be moved before publishing the leased max CSN, so that no CSN out of the lease is handed out
+            currentCSN.set(result - leaseSize);
+            leasedMaxCSN = result;
+        }
+    }
+    
     @Override
     public long getCurrentTimestamp() {
+        if (isLeaseOwned()) {
+            return currentCSN.get();
+        }
         try (Jedis jedis = jedisPool.getResource()) {
             return Long.parseLong(jedis.get(CSN_KEY));
         }
@@ -89,6 +209,14 @@ public final class RedisTSOProvider implements TSOProvider {
     
     @Override
     public long getNextTimestamp() {
+        while (isLeaseOwned()) {
+            long current = currentCSN.get();
+            if (current >= leasedMaxCSN) {
+                lease();
+            } else if (currentCSN.compareAndSet(current, current + 1L)) {
+                return current + 1L;
+            }
+        }
         try (Jedis jedis = jedisPool.getResource()) {
             return jedis.incr(CSN_KEY);
         }
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.internal.configuration.plugins.Plugins;
+import org.mockito.junit.jupiter.MockitoExtension;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.params.SetParams;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisTSOProviderTest {
+    
+    @Mock
+    private JedisPool jedisPool;
+    
+    @Mock
+    private Jedis jedis;
+    
+    @Test
+    void assertGetNextTimestampWithoutLease() throws ReflectiveOperationException {
+        when(jedisPool.getResource()).thenReturn(jedis);
+        when(jedis.incr("csn")).thenReturn(101L);
+        assertThat(createProvider(1L, 0L).getNextTimestamp(), is(101L));
+    }
+    
+    @Test
+    void assertGetNextTimestampWithLease() throws ReflectiveOperationException {
+        when(jedisPool.getResource()).thenReturn(jedis);
+        when(jedis.incrBy("csn", 10L)).thenReturn(110L, 120L);
+        RedisTSOProvider provider = createProvider(10L, 0L);
+        for (long i = 101L; i <= 110L; i++) {
+            assertThat(provider.getNextTimestamp(), is(i));
+        }
+        assertThat(provider.getCurrentTimestamp(), is(110L));
+        assertThat(provider.getNextTimestamp(), is(111L));
+        assertThat(provider.getCurrentTimestamp(), is(111L));
+        verify(jedis, times(2)).incrBy("csn", 10L);
+    }
+    
+    @Test
+    void assertGetNextTimestampWithLeaseAfterFailover() throws ReflectiveOperationException {
+        when(jedisPool.getResource()).thenReturn(jedis);
+        when(jedis.incrBy("csn", 10L)).thenReturn(110L, 50L);
+        when(jedis.incrBy("csn", 170L)).thenReturn(220L);
+        RedisTSOProvider provider = createProvider(10L, 100L);
+        for (int i = 0; i < 10; i++) {
+            provider.getNextTimestamp();
+        }
+        assertThat(provider.getNextTimestamp(), is(211L));
+    }
+    
+    @Test
+    void assertGetNextTimestampWithLeaseSharedByAnotherNode() throws ReflectiveOperationException {
+        when(jedisPool.getResource()).thenReturn(jedis);
+        when(jedis.incrBy("csn", 10L)).thenReturn(110L, 130L);
+        when(jedis.incr("csn")).thenReturn(131L);
+        when(jedis.get("csn")).thenReturn("131");
+        RedisTSOProvider provider = createProvider(10L, 0L);
+        for (int i = 0; i < 10; i++) {
+            provider.getNextTimestamp();
+        }
+        assertThat(provider.getNextTimestamp(), is(131L));
+        assertThat(provider.getCurrentTimestamp(), is(131L));
+    }
+    
+    @Test
+    void assertInitWithLeaseOwnerAcquired() {
+        when(jedis.get("csn")).thenReturn("100");
+        when(jedis.set(eq("csn_lease_owner"), anyString(), any(SetParams.class))).thenReturn("OK");
+        when(jedis.incrBy("csn", 10L)).thenReturn(110L);
+        try (MockedConstruction<JedisPool> ignored = mockConstruction(JedisPool.class, (mock, context) -> when(mock.getResource()).thenReturn(jedis))) {
+            RedisTSOProvider provider = new RedisTSOProvider();
+            provider.init(createProperties(10L));
+            assertThat(provider.getNextTimestamp(), is(101L));
+            assertThat(provider.getCurrentTimestamp(), is(101L));
+        }
+        verify(jedis, never()).incr("csn");
+    }
+    
+    @Test
+    void assertInitWithLeaseOwnedByAnotherNode() {
+        when(jedis.get("csn")).thenReturn("100", "120");
+        when(jedis.incr("csn")).thenReturn(121L);
+        try (MockedConstruction<JedisPool> ignored = mockConstruction(JedisPool.class, (mock, context) -> when(mock.getResource()).thenReturn(jedis))) {
+            RedisTSOProvider provider = new RedisTSOProvider();
+            provider.init(createProperties(10L));
+            assertThat(provider.getCurrentTimestamp(), is(120L));
+            assertThat(provider.getNextTimestamp(), is(121L));
+        }
+        verify(jedis, never()).incrBy(eq("csn"), anyLong());
+    }
+    
+    @Test
+    void assertGetNextTimestampWithLeaseOwnershipExpired() throws ReflectiveOperationException {
+        when(jedisPool.getResource()).thenReturn(jedis);
+        when(jedis.incr("csn")).thenReturn(121L);
+        RedisTSOProvider provider = createProvider(10L, 0L);
+        Plugins.getMemberAccessor().set(RedisTSOProvider.class.getDeclaredField("leaseOwnerExpireNanos"), provider, System.nanoTime());
+        assertThat(provider.getNextTimestamp(), is(121L));
+        verify(jedis, never()).incrBy(eq("csn"), anyLong());
+    }
+    
+    private Properties createProperties(final long leaseSize) {
+        Properties result = new Properties();
+        result.setProperty(RedisTSOPropertyKey.LEASE_SIZE.getKey(), String.valueOf(leaseSize));
+        return result;
+    }
+    
+    private RedisTSOProvider createProvider(final long leaseSize, final long leaseSafetyWindow) throws ReflectiveOperationException {
+        RedisTSOProvider result = new RedisTSOProvider();
+        Plugins.getMemberAccessor().set(RedisTSOProvider.class.getDeclaredField("jedisPool"), result, jedisPool);
+        Plugins.getMemberAccessor().set(RedisTSOProvider.class.getDeclaredField("leaseSize"), result, leaseSize);
+        Plugins.getMemberAccessor().set(RedisTSOProvider.class.getDeclaredField("leaseSafetyWindow"), result, leaseSafetyWindow);
+        Plugins.getMemberAccessor().set(RedisTSOProvider.class.getDeclaredField("leaseEnabled"), result, leaseSize > 1L);
+        Plugins.getMemberAccessor().set(RedisTSOProvider.class.getDeclaredField("leaseOwnerExpireNanos"), result, System.nanoTime() + TimeUnit.HOURS.toNanos(1L));
+        return result;
+    }
+}
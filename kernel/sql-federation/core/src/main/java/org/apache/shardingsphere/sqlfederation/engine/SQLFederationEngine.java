@@ -64,6 +64,8 @@ import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFede
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.cache.ExecutionPlanCacheKey;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.util.SQLFederationPlannerUtils;
 import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatisticLoader;
 import org.apache.shardingsphere.sqlfederation.resultset.SQLFederationResultSet;
 import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationDecider;
@@ -241,11 +243,17 @@ public final class SQLFederationEngine implements AutoCloseable {
         SQLFederationExecutorContext executorContext = new SQLFederationExecutorContext(databaseName, schemaName, metaData.getProps());
         EnumerableScanExecutor scanExecutor =
                 new EnumerableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, executorContext, federationContext, metaData.getGlobalRuleMetaData(), statistics);
+        Map<String, Double> rowCounts = null;
         // TODO register only the required tables
         for (ShardingSphereTable each : metaData.getDatabase(databaseName).getSchema(schemaName).getTables().values()) {
             Table table = sqlFederationSchema.getTable(each.getName());
             if (table instanceof SQLFederationTable) {
                 ((SQLFederationTable) table).setScanExecutor(scanExecutor);
+                SQLFederationStatistic statistic = ((SQLFederationTable) table).getStatistic();
+                if (statistic.isRowCountExpired()) {
+                    rowCounts = null == rowCounts ? SQLFederationStatisticLoader.loadRowCounts(statistics, databaseName) : rowCounts;
+                    statistic.setRowCount(rowCounts.get(each.getName()));
+                }
             }
         }
     }
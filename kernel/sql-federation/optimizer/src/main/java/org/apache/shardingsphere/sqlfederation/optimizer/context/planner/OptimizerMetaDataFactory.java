@@ -25,8 +25,10 @@ import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
 import org.apache.calcite.schema.Schema;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rule.attribute.table.DistributionKeyRuleAttribute;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationSchema;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -60,8 +62,9 @@ public final class OptimizerMetaDataFactory {
      */
     public static OptimizerMetaData create(final ShardingSphereDatabase database) {
         Map<String, Schema> schemas = new CaseInsensitiveMap<>();
+        Collection<DistributionKeyRuleAttribute> distributionKeyRuleAttributes = database.getRuleMetaData().getAttributes(DistributionKeyRuleAttribute.class);
         for (Entry<String, ShardingSphereSchema> entry : database.getSchemas().entrySet()) {
-            Schema sqlFederationSchema = new SQLFederationSchema(entry.getKey(), entry.getValue(), database.getProtocolType(), DEFAULT_DATA_TYPE_FACTORY);
+            Schema sqlFederationSchema = new SQLFederationSchema(entry.getKey(), entry.getValue(), database.getProtocolType(), DEFAULT_DATA_TYPE_FACTORY, distributionKeyRuleAttributes);
             schemas.put(entry.getKey(), sqlFederationSchema);
         }
         return new OptimizerMetaData(schemas);
@@ -25,6 +25,7 @@ import org.apache.calcite.schema.impl.AbstractSchema;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rule.attribute.table.DistributionKeyRuleAttribute;
 
 import java.util.Map;
 import java.util.Map.Entry;
@@ -47,7 +48,7 @@ public final class SQLFederationDatabase extends AbstractSchema {
     private Map<String, Schema> createSubSchemaMap(final ShardingSphereDatabase database, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
         Map<String, Schema> result = new CaseInsensitiveMap<>(database.getSchemas().size(), 1F);
         for (Entry<String, ShardingSphereSchema> entry : database.getSchemas().entrySet()) {
-            result.put(entry.getKey(), new SQLFederationSchema(entry.getKey(), entry.getValue(), protocolType, javaTypeFactory));
+            result.put(entry.getKey(), new SQLFederationSchema(entry.getKey(), entry.getValue(), protocolType, javaTypeFactory, database.getRuleMetaData().getAttributes(DistributionKeyRuleAttribute.class)));
         }
         return result;
     }
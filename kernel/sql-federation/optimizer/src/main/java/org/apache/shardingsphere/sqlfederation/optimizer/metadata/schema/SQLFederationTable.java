@@ -41,7 +41,6 @@ import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.schema.ModifiableTable;
 import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.schema.Schemas;
-import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.schema.TranslatableTable;
 import org.apache.calcite.schema.impl.AbstractTable;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -129,7 +128,7 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
     }
     
     @Override
-    public Statistic getStatistic() {
+    public SQLFederationStatistic getStatistic() {
         return statistic;
     }
     
@@ -21,8 +21,10 @@ import lombok.Getter;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelWriter;
 import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalAggregate;
 import org.apache.calcite.rel.logical.LogicalFilter;
 import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rel.logical.LogicalSort;
 import org.apache.calcite.rel.logical.LogicalTableScan;
 import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.LogicalScanPushDownRelBuilder;
 
@@ -71,6 +73,27 @@ public final class LogicalScan extends TableScan {
         resetRowType(logicalProject);
     }
     
+    /**
+     * Push down logical aggregate.
+     *
+     * @param logicalAggregate logical aggregate
+     */
+    public void pushDown(final LogicalAggregate logicalAggregate) {
+        pushDownRelBuilder.aggregate(pushDownRelBuilder.groupKey(logicalAggregate.getGroupSet()), logicalAggregate.getAggCallList());
+        resetRowType(logicalAggregate);
+    }
+    
+    /**
+     * Push down logical sort.
+     *
+     * @param logicalSort logical sort
+     */
+    public void pushDown(final LogicalSort logicalSort) {
+        RelNode input = pushDownRelBuilder.build();
+        pushDownRelBuilder.push(logicalSort.copy(logicalSort.getTraitSet(), input, logicalSort.getCollation(), logicalSort.offset, logicalSort.fetch));
+        resetRowType(logicalSort);
+    }
+    
     /**
      * Peek rel node.
      *
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation;
+
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.core.Sort;
+import org.apache.calcite.rel.logical.LogicalAggregate;
+import org.apache.calcite.rel.rules.TransformationRule;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+import org.immutables.value.Value;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+
+/**
+ * Push aggregate into scan rule.
+ */
+@Value.Enclosing
+public final class PushAggregateIntoScanRule extends RelRule<PushAggregateIntoScanRule.Config> implements TransformationRule {
+    
+    private static final Collection<String> SYSTEM_SCHEMAS = new CaseInsensitiveSet<>(Arrays.asList("information_schema", "performance_schema", "mysql", "sys", "shardingsphere", "pg_catalog"));
+    
+    private static final Collection<SqlKind> MERGEABLE_AGGREGATIONS = EnumSet.of(SqlKind.COUNT, SqlKind.MIN, SqlKind.MAX);
+    
+    private PushAggregateIntoScanRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalScan logicalScan = call.rel(1);
+        for (String each : logicalScan.getTable().getQualifiedName()) {
+            if (SYSTEM_SCHEMAS.contains(each)) {
+                return false;
+            }
+        }
+        LogicalAggregate logicalAggregate = call.rel(0);
+        if (Aggregate.Group.SIMPLE != logicalAggregate.getGroupType() || logicalAggregate.getAggCallList().isEmpty()) {
+            return false;
+        }
+        for (AggregateCall each : logicalAggregate.getAggCallList()) {
+            if (!isMergeableAggregation(each)) {
+                return false;
+            }
+        }
+        return !containsAggregateOrSort(logicalScan.peek());
+    }
+    
+    private boolean isMergeableAggregation(final AggregateCall aggregateCall) {
+        return MERGEABLE_AGGREGATIONS.contains(aggregateCall.getAggregation().getKind()) && !aggregateCall.isDistinct() && !aggregateCall.hasFilter()
+                && aggregateCall.getCollation().getFieldCollations().isEmpty();
+    }
+    
+    private boolean containsAggregateOrSort(final RelNode relNode) {
+        if (relNode instanceof Aggregate || relNode instanceof Sort) {
+            return true;
+        }
+        for (RelNode each : relNode.getInputs()) {
+            if (containsAggregateOrSort(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalAggregate logicalAggregate = call.rel(0);
+        LogicalScan logicalScan = call.rel(1);
+        logicalScan.pushDown(logicalAggregate);
+        call.transformTo(logicalScan);
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutablePushAggregateIntoScanRule.Config.builder().description(PushAggregateIntoScanRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalAggregate.class).inputs(b1 -> b1.operand(LogicalScan.class).anyInputs())).build();
+        
+        @Override
+        default PushAggregateIntoScanRule toRule() {
+            return new PushAggregateIntoScanRule(this);
+        }
+    }
+}
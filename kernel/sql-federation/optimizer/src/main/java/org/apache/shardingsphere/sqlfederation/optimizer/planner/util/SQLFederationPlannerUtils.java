@@ -53,8 +53,10 @@ import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.view.ShardingSphereViewExpander;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableModifyConverterRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableScanConverterRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushAggregateIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushFilterIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushProjectIntoScanRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushSortIntoScanRule;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -101,6 +103,7 @@ public final class SQLFederationPlannerUtils {
         builder.addGroupBegin().addRuleCollection(getFilterRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getProjectRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getAggregationRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
+        builder.addGroupBegin().addRuleCollection(getPushDownRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getCalcRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getSubQueryRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addMatchLimit(DEFAULT_MATCH_LIMIT);
@@ -191,6 +194,13 @@ public final class SQLFederationPlannerUtils {
         return result;
     }
     
+    private static Collection<RelOptRule> getPushDownRules() {
+        Collection<RelOptRule> result = new LinkedList<>();
+        result.add(PushAggregateIntoScanRule.Config.DEFAULT.toRule());
+        result.add(PushSortIntoScanRule.Config.DEFAULT.toRule());
+        return result;
+    }
+    
     /**
      * Create catalog reader.
      *
@@ -22,8 +22,14 @@ import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
 import org.apache.calcite.rel.RelReferentialConstraint;
 import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.attribute.table.DistributionKeyRuleAttribute;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -31,6 +37,82 @@ import java.util.List;
  */
 public final class SQLFederationStatistic implements Statistic {
     
+    // Same as the interval of statistics collect job, row counts could not be changed more frequently
+    private static final long ROW_COUNT_EXPIRE_MILLIS = 30000L;
+    
+    private final List<ImmutableBitSet> keys;
+    
+    private volatile Double rowCount;
+    
+    private volatile long rowCountExpireMillis;
+    
+    public SQLFederationStatistic(final ShardingSphereTable table, final Collection<DistributionKeyRuleAttribute> distributionKeyRuleAttributes) {
+        keys = createKeys(table, distributionKeyRuleAttributes);
+    }
+    
+    private List<ImmutableBitSet> createKeys(final ShardingSphereTable table, final Collection<DistributionKeyRuleAttribute> distributionKeyRuleAttributes) {
+        ImmutableBitSet.Builder primaryKey = ImmutableBitSet.builder();
+        boolean globalUnique = false;
+        int index = 0;
+        for (ShardingSphereColumn each : table.getColumnValues()) {
+            if (each.isPrimaryKey()) {
+                primaryKey.set(index);
+                globalUnique = globalUnique || each.isGenerated() || isDistributionKey(table.getName(), each.getName(), distributionKeyRuleAttributes);
+            }
+            index++;
+        }
+        // Primary key is only unique in each actual table, it is unique in logic table only when it contains sharding key or global generated key
+        return globalUnique ? Collections.singletonList(primaryKey.build()) : Collections.emptyList();
+    }
+    
+    private boolean isDistributionKey(final String tableName, final String columnName, final Collection<DistributionKeyRuleAttribute> distributionKeyRuleAttributes) {
+        for (DistributionKeyRuleAttribute each : distributionKeyRuleAttributes) {
+            if (each.isDistributionKey(tableName, columnName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Judge whether row count is expired and need to be reloaded.
+     *
+     * @return row count is expired or not
+     */
+    public boolean isRowCountExpired() {
+        return System.currentTimeMillis() >= rowCountExpireMillis;
+    }
+    
+    /**
+     * Set row count.
+     *
+     * @param rowCount row count, null means unknown
+     */
+    public void setRowCount(final Double rowCount) {
+        this.rowCount = rowCount;
+        rowCountExpireMillis = System.currentTimeMillis() + ROW_COUNT_EXPIRE_MILLIS;
+    }
+    
+    @Override
+    public Double getRowCount() {
+        return rowCount;
+    }
+    
+    @Override
+    public boolean isKey(final ImmutableBitSet columns) {
+        for (ImmutableBitSet each : keys) {
+            if (columns.contains(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public List<ImmutableBitSet> getKeys() {
+        return keys;
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL federation statistic loader.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFederationStatisticLoader {
+    
+    private static final String SHARDING_SPHERE = "shardingsphere";
+    
+    private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
+    
+    private static final int LOGIC_DATABASE_NAME_INDEX = 1;
+    
+    private static final int LOGIC_TABLE_NAME_INDEX = 2;
+    
+    private static final int ROW_COUNT_INDEX = 5;
+    
+    /**
+     * Load row counts of logic tables, which are summed up from actual data nodes collected in sharding table statistics.
+     *
+     * @param statistics ShardingSphere statistics
+     * @param databaseName database name
+     * @return row counts of logic tables
+     */
+    public static Map<String, Double> loadRowCounts(final ShardingSphereStatistics statistics, final String databaseName) {
+        Map<String, Double> result = new CaseInsensitiveMap<>();
+        if (null == statistics) {
+            return result;
+        }
+        for (ShardingSphereDatabaseData each : statistics.getDatabaseData().values()) {
+            ShardingSphereSchemaData schemaData = each.getSchema(SHARDING_SPHERE);
+            ShardingSphereTableData tableData = null == schemaData ? null : schemaData.getTable(SHARDING_TABLE_STATISTICS);
+            if (null != tableData) {
+                loadRowCounts(tableData, databaseName, result);
+            }
+        }
+        // Zero row count is also filled when dialect collector is absent, so treat it as unknown
+        result.values().removeIf(each -> 0D == each);
+        return result;
+    }
+    
+    private static void loadRowCounts(final ShardingSphereTableData tableData, final String databaseName, final Map<String, Double> rowCounts) {
+        for (ShardingSphereRowData each : tableData.getRows()) {
+            List<Object> row = each.getRows();
+            if (row.size() <= ROW_COUNT_INDEX || null == row.get(LOGIC_TABLE_NAME_INDEX) || !databaseName.equalsIgnoreCase(String.valueOf(row.get(LOGIC_DATABASE_NAME_INDEX)))) {
+                continue;
+            }
+            rowCounts.merge(String.valueOf(row.get(LOGIC_TABLE_NAME_INDEX)), getRowCount(row.get(ROW_COUNT_INDEX)), Double::sum);
+        }
+    }
+    
+    private static double getRowCount(final Object value) {
+        if (null == value) {
+            return 0D;
+        }
+        return value instanceof Number ? ((Number) value).doubleValue() : new BigDecimal(value.toString()).doubleValue();
+    }
+}
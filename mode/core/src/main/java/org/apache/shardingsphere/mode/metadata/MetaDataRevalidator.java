@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.temporary.TemporaryConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.lock.GlobalLockNames;
+import org.apache.shardingsphere.infra.lock.LockContext;
+import org.apache.shardingsphere.infra.lock.LockDefinition;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
+import org.apache.shardingsphere.infra.metadata.database.schema.manager.GenericSchemaManager;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.pojo.AlterSchemaMetaDataPOJO;
+import org.apache.shardingsphere.infra.state.datasource.DataSourceStateManager;
+import org.apache.shardingsphere.mode.lock.GlobalLockDefinition;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Meta data revalidator.
+ * 
+ * <p>Compute node boots from the schemas persisted in repository without loading storage units.
+ * Revalidator loads storage units in background afterwards, and only refreshes the tables which are changed or added through mode context manager.
+ * Tables missing from storage units are only reported and never dropped, because a background pass can not tell them from tables created after it started.
+ * In cluster mode, only the compute node which holds the revalidation lock revalidates, the others skip and receive the changes from repository.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class MetaDataRevalidator {
+    
+    private final ContextManager contextManager;
+    
+    /**
+     * Revalidate meta data in background if enabled.
+     */
+    public void revalidateAsync() {
+        if (!contextManager.getMetaDataContexts().getMetaData().getTemporaryProps().<Boolean>getValue(TemporaryConfigurationPropertyKey.META_DATA_REVALIDATION_ENABLED)) {
+            return;
+        }
+        ExecutorService executorService = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("MetaDataRevalidator-%d"));
+        executorService.execute(this::revalidate);
+        executorService.shutdown();
+    }
+    
+    /**
+     * Revalidate meta data of all databases.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void revalidate() {
+        InstanceContext instanceContext = contextManager.getInstanceContext();
+        if (!instanceContext.isCluster()) {
+            revalidateDatabases();
+            return;
+        }
+        LockContext lockContext = instanceContext.getLockContext();
+        LockDefinition lockDefinition = new GlobalLockDefinition(GlobalLockNames.META_DATA_REVALIDATION.getLockName());
+        if (!lockContext.tryLock(lockDefinition, 0L)) {
+            log.info("Skip revalidating meta data, because another compute node is revalidating");
+            return;
+        }
+        try {
+            revalidateDatabases();
+        } finally {
+            lockContext.unlock(lockDefinition);
+        }
+    }
+    
+    private void revalidateDatabases() {
+        for (ShardingSphereDatabase each : contextManager.getMetaDataContexts().getMetaData().getDatabases().values()) {
+            if (!each.containsDataSource()) {
+                continue;
+            }
+            try {
+                revalidate(each);
+            } catch (final SQLException ex) {
+                log.error("Revalidate meta data of database: {} failed", each.getName(), ex);
+            }
+        }
+    }
+    
+    private void revalidate(final ShardingSphereDatabase database) throws SQLException {
+        Map<String, DataSource> dataSources = database.getResourceMetaData().getStorageUnits().entrySet().stream()
+                .collect(Collectors.toMap(Entry::getKey, entry -> entry.getValue().getDataSource()));
+        if (DataSourceStateManager.getInstance().getEnabledDataSources(database.getName(), dataSources).size() != dataSources.size()) {
+            log.warn("Skip revalidating meta data of database: {}, because some storage units are disabled", database.getName());
+            return;
+        }
+        GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(database.getProtocolType(), database.getResourceMetaData().getStorageUnits(),
+                database.getRuleMetaData().getRules(), contextManager.getMetaDataContexts().getMetaData().getProps(),
+                new DatabaseTypeRegistry(database.getProtocolType()).getDefaultSchemaName(database.getName()));
+        for (Entry<String, ShardingSphereSchema> entry : GenericSchemaBuilder.build(material).entrySet()) {
+            if (database.containsSchema(entry.getKey())) {
+                revalidate(database.getName(), entry.getKey(), entry.getValue(), database.getSchema(entry.getKey()));
+            } else {
+                contextManager.getInstanceContext().getModeContextManager().createSchema(database.getName(), entry.getKey());
+                alterSchemaMetaData(database.getName(), entry.getKey(), entry.getValue().getTables().values());
+            }
+        }
+    }
+    
+    private void revalidate(final String databaseName, final String schemaName, final ShardingSphereSchema reloadedSchema, final ShardingSphereSchema currentSchema) {
+        Map<String, ShardingSphereTable> toBeChangedTables = GenericSchemaManager.getToBeAddedTables(reloadedSchema.getTables(), currentSchema.getTables());
+        Map<String, ShardingSphereTable> missingTables = GenericSchemaManager.getToBeDeletedTables(reloadedSchema.getTables(), currentSchema.getTables());
+        if (!missingTables.isEmpty()) {
+            log.warn("Tables: {} of database: {} schema: {} are not found in storage units, please refresh table meta data if they are dropped", missingTables.keySet(), databaseName, schemaName);
+        }
+        if (toBeChangedTables.isEmpty()) {
+            return;
+        }
+        alterSchemaMetaData(databaseName, schemaName, toBeChangedTables.values());
+        log.info("Revalidated meta data of database: {} schema: {}, changed tables: {}", databaseName, schemaName, toBeChangedTables.keySet());
+    }
+    
+    private void alterSchemaMetaData(final String databaseName, final String schemaName, final Collection<ShardingSphereTable> tables) {
+        AlterSchemaMetaDataPOJO alterSchemaMetaDataPOJO = new AlterSchemaMetaDataPOJO(databaseName, schemaName);
+        alterSchemaMetaDataPOJO.getAlteredTables().addAll(tables);
+        contextManager.getInstanceContext().getModeContextManager().alterSchemaMetaData(alterSchemaMetaDataPOJO);
+    }
+}
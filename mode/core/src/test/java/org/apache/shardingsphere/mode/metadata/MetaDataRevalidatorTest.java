@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.instance.mode.ModeContextManager;
+import org.apache.shardingsphere.infra.lock.LockDefinition;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.pojo.AlterSchemaMetaDataPOJO;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Types;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MetaDataRevalidatorTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ContextManager contextManager;
+    
+    @Test
+    void assertRevalidateChangedTablesOnly() {
+        ShardingSphereTable unchangedTable = new ShardingSphereTable("foo_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereTable changedTable = new ShardingSphereTable("bar_tbl",
+                Collections.singleton(new ShardingSphereColumn("bar_col", Types.INTEGER, false, false, false, true, false, false)), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereSchema currentSchema = new ShardingSphereSchema();
+        currentSchema.putTable("foo_tbl", unchangedTable);
+        currentSchema.putTable("bar_tbl", new ShardingSphereTable());
+        currentSchema.putTable("missing_tbl", new ShardingSphereTable());
+        ShardingSphereSchema reloadedSchema = new ShardingSphereSchema();
+        reloadedSchema.putTable("foo_tbl", unchangedTable);
+        reloadedSchema.putTable("bar_tbl", changedTable);
+        mockDatabase(currentSchema);
+        ModeContextManager modeContextManager = mock(ModeContextManager.class);
+        when(contextManager.getInstanceContext().getModeContextManager()).thenReturn(modeContextManager);
+        try (MockedStatic<GenericSchemaBuilder> schemaBuilder = mockStatic(GenericSchemaBuilder.class)) {
+            schemaBuilder.when(() -> GenericSchemaBuilder.build(any(GenericSchemaBuilderMaterial.class))).thenReturn(Collections.singletonMap("foo_schema", reloadedSchema));
+            new MetaDataRevalidator(contextManager).revalidate();
+        }
+        ArgumentCaptor<AlterSchemaMetaDataPOJO> captor = ArgumentCaptor.forClass(AlterSchemaMetaDataPOJO.class);
+        verify(modeContextManager).alterSchemaMetaData(captor.capture());
+        assertThat(captor.getValue().getDatabaseName(), is("foo_db"));
+        assertThat(captor.getValue().getSchemaName(), is("foo_schema"));
+        assertThat(captor.getValue().getAlteredTables().size(), is(1));
+        assertThat(captor.getValue().getAlteredTables().iterator().next(), is(changedTable));
+        assertTrue(captor.getValue().getDroppedTables().isEmpty());
+        verify(modeContextManager, never()).createSchema(anyString(), anyString());
+        assertTrue(currentSchema.containsTable("missing_tbl"));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertRevalidateSkippedWithoutLockInClusterMode() {
+        when(contextManager.getInstanceContext().isCluster()).thenReturn(true);
+        when(contextManager.getInstanceContext().getLockContext().tryLock(any(LockDefinition.class), anyLong())).thenReturn(false);
+        try (MockedStatic<GenericSchemaBuilder> schemaBuilder = mockStatic(GenericSchemaBuilder.class)) {
+            new MetaDataRevalidator(contextManager).revalidate();
+            schemaBuilder.verify(() -> GenericSchemaBuilder.build(any(GenericSchemaBuilderMaterial.class)), never());
+        }
+        verify(contextManager.getInstanceContext().getLockContext(), never()).unlock(any(LockDefinition.class));
+    }
+    
+    private void mockDatabase(final ShardingSphereSchema currentSchema) {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        when(database.containsDataSource()).thenReturn(true);
+        when(database.getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(database.getResourceMetaData().getStorageUnits()).thenReturn(Collections.emptyMap());
+        when(database.containsSchema("foo_schema")).thenReturn(true);
+        when(database.getSchema("foo_schema")).thenReturn(currentSchema);
+        when(contextManager.getMetaDataContexts().getMetaData().getDatabases()).thenReturn(Collections.singletonMap("foo_db", database));
+        when(contextManager.getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.parser;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.antlr.v4.runtime.BufferedTokenStream;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.Token;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LL prediction SQL cache.
+ * 
+ * <p>
+ * ANTLR prediction only depends on token types, so SQL with the same token type sequence share the same prediction result.
+ * This cache records token type sequences of SQL which can not be parsed with SLL prediction mode,
+ * the later SQL with same token types will be parsed with LL prediction mode directly without the failed SLL attempt.
+ * Token types are recorded by hash, a collision only makes SQL parsed with LL prediction mode, which is always correct.
+ * </p>
+ */
+public final class LLPredictionSQLCache {
+    
+    private static final int MAXIMUM_SIZE = 4096;
+    
+    private static final Map<Class<?>, LLPredictionSQLCache> INSTANCES = new ConcurrentHashMap<>();
+    
+    private final Cache<Long, Boolean> tokenTypesHashes = Caffeine.newBuilder().maximumSize(MAXIMUM_SIZE).build();
+    
+    private final LongAdder hitCount = new LongAdder();
+    
+    private final LongAdder missCount = new LongAdder();
+    
+    /**
+     * Get LL prediction SQL cache of parser.
+     *
+     * @param parser parser
+     * @return LL prediction SQL cache
+     */
+    public static LLPredictionSQLCache getInstance(final Parser parser) {
+        return INSTANCES.computeIfAbsent(parser.getClass(), key -> new LLPredictionSQLCache());
+    }
+    
+    /**
+     * Get LL prediction SQL caches of all parsers.
+     *
+     * @return LL prediction SQL caches
+     */
+    public static Collection<LLPredictionSQLCache> getAllInstances() {
+        return Collections.unmodifiableCollection(INSTANCES.values());
+    }
+    
+    /**
+     * Judge whether SQL requires LL prediction mode.
+     *
+     * @param tokenStream token stream of SQL
+     * @return requires LL prediction mode or not
+     */
+    public boolean isRequired(final BufferedTokenStream tokenStream) {
+        if (0L == tokenTypesHashes.estimatedSize()) {
+            return false;
+        }
+        boolean result = null != tokenTypesHashes.getIfPresent(getTokenTypesHash(tokenStream));
+        if (result) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+        }
+        return result;
+    }
+    
+    /**
+     * Put SQL which requires LL prediction mode.
+     *
+     * @param tokenStream token stream of SQL
+     */
+    public void put(final BufferedTokenStream tokenStream) {
+        tokenTypesHashes.put(getTokenTypesHash(tokenStream), true);
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+    
+    private long getTokenTypesHash(final BufferedTokenStream tokenStream) {
+        tokenStream.fill();
+        long result = 1L;
+        for (Token each : tokenStream.getTokens()) {
+            if (Token.DEFAULT_CHANNEL == each.getChannel()) {
+                result = 31L * result + each.getType();
+            }
+        }
+        return result;
+    }
+}
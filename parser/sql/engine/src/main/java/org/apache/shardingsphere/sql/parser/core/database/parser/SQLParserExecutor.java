@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sql.parser.core.database.parser;
 
 import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.BufferedTokenStream;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
@@ -56,19 +57,29 @@ public final class SQLParserExecutor {
     private ParseASTNode twoPhaseParse(final String sql) {
         DialectSQLParserFacade sqlParserFacade = DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType);
         SQLParser sqlParser = SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass());
+        LLPredictionSQLCache llPredictionSQLCache = LLPredictionSQLCache.getInstance((Parser) sqlParser);
+        BufferedTokenStream tokenStream = (BufferedTokenStream) ((Parser) sqlParser).getTokenStream();
+        if (llPredictionSQLCache.isRequired(tokenStream)) {
+            return parseWithLLPredictionMode(sql, sqlParser);
+        }
         try {
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
             return (ParseASTNode) sqlParser.parse();
         } catch (final ParseCancellationException ex) {
+            llPredictionSQLCache.put(tokenStream);
             ((Parser) sqlParser).reset();
-            ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.LL);
-            ((Parser) sqlParser).removeErrorListeners();
-            ((Parser) sqlParser).addErrorListener(SQLParserErrorListener.getInstance());
-            try {
-                return (ParseASTNode) sqlParser.parse();
-            } catch (final ParseCancellationException exception) {
-                throw new SQLParsingException(sql + ", " + exception.getMessage());
-            }
+            return parseWithLLPredictionMode(sql, sqlParser);
+        }
+    }
+    
+    private ParseASTNode parseWithLLPredictionMode(final String sql, final SQLParser sqlParser) {
+        ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.LL);
+        ((Parser) sqlParser).removeErrorListeners();
+        ((Parser) sqlParser).addErrorListener(SQLParserErrorListener.getInstance());
+        try {
+            return (ParseASTNode) sqlParser.parse();
+        } catch (final ParseCancellationException ex) {
+            throw new SQLParsingException(sql + ", " + ex.getMessage());
         }
     }
 }
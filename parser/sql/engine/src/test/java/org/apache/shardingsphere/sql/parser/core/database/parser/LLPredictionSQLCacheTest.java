@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.parser;
+
+import org.antlr.v4.runtime.BufferedTokenStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Parser;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class LLPredictionSQLCacheTest {
+    
+    private static final int IDENTIFIER_TYPE = 1;
+    
+    private static final int NUMBER_TYPE = 2;
+    
+    @Test
+    void assertIsRequired() {
+        LLPredictionSQLCache cache = LLPredictionSQLCache.getInstance(mock(Parser.class));
+        assertFalse(cache.isRequired(createTokenStream(NUMBER_TYPE, "1")));
+        cache.put(createTokenStream(NUMBER_TYPE, "1"));
+        assertTrue(cache.isRequired(createTokenStream(NUMBER_TYPE, "2")));
+        assertFalse(cache.isRequired(createTokenStream(IDENTIFIER_TYPE, "id")));
+        assertThat(cache.getHitCount(), is(1L));
+        assertThat(cache.getMissCount(), is(1L));
+    }
+    
+    private BufferedTokenStream createTokenStream(final int lastTokenType, final String lastTokenText) {
+        return new CommonTokenStream(new ListTokenSource(Arrays.asList(new CommonToken(IDENTIFIER_TYPE, "id"), new CommonToken(lastTokenType, lastTokenText))));
+    }
+}
@@ -36,6 +36,7 @@ import org.apache.shardingsphere.infra.exception.kernel.metadata.resource.storag
 import org.apache.shardingsphere.infra.exception.kernel.metadata.rule.EmptyRuleException;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.CompletionOrderedResults;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
@@ -114,6 +115,8 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     private MergedResult mergedResult;
     
+    private CompletionOrderedResults<?> completionOrderedResults;
+    
     public DatabaseConnector(final String driverType, final ShardingSphereDatabase database, final QueryContext queryContext, final ProxyDatabaseConnectionManager databaseConnectionManager) {
         SQLStatementContext sqlStatementContext = queryContext.getSqlStatementContext();
         failedIfBackendNotReady(databaseConnectionManager.getConnectionSession(), sqlStatementContext);
@@ -220,6 +223,9 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         }
         proxySQLExecutor.checkExecutePrerequisites(executionContext);
         List result = proxySQLExecutor.execute(executionContext);
+        if (result instanceof CompletionOrderedResults) {
+            completionOrderedResults = (CompletionOrderedResults<?>) result;
+        }
         refreshMetaData(executionContext);
         Object executeResultSample = result.iterator().next();
         return executeResultSample instanceof QueryResult ? processExecuteQuery(queryContext.getSqlStatementContext(), result, (QueryResult) executeResultSample)
@@ -378,6 +384,10 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        if (null != completionOrderedResults) {
+            completionOrderedResults.close();
+        }
+        closeMergedResult().ifPresent(result::add);
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeSQLFederationEngine().ifPresent(result::add);
@@ -389,6 +399,21 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         throw ex;
     }
     
+    private Optional<SQLException> closeMergedResult() {
+        if (mergedResult instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) mergedResult).close();
+            } catch (final SQLException ex) {
+                return Optional.of(ex);
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                return Optional.of(new SQLException(ex));
+            }
+        }
+        return Optional.empty();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -19,8 +19,12 @@ package org.apache.shardingsphere.proxy.backend.connector.jdbc.executor;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.temporary.TemporaryConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.temporary.TemporaryConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.CompletionOrderedResults;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
@@ -32,6 +36,7 @@ import org.apache.shardingsphere.proxy.backend.connector.DatabaseConnector;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -64,12 +69,20 @@ public final class ProxyJDBCExecutor {
      */
     public List<ExecuteResult> execute(final QueryContext queryContext, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
                                        final boolean isReturnGeneratedKeys, final boolean isExceptionThrown) throws SQLException {
+        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
+        DatabaseType protocolType = database.getProtocolType();
+        SQLStatementContext context = queryContext.getSqlStatementContext();
+        if (isCompletionOrdered(metaDataContexts.getMetaData().getTemporaryProps(), database, context, executionGroupContext, isExceptionThrown)) {
+            processEngine.executeSQL(executionGroupContext, queryContext);
+            CompletionOrderedResults<ExecuteResult> result = jdbcExecutor.executeInCompletionOrder(executionGroupContext,
+                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector, false, true, false),
+                    metaDataContexts.getMetaData().getTemporaryProps().<Long>getValue(TemporaryConfigurationPropertyKey.PROXY_COMPLETION_ORDERED_EXECUTION_GROUP_TIMEOUT_MILLISECONDS));
+            result.whenComplete(() -> processEngine.completeSQLExecution(executionGroupContext.getReportContext().getProcessId()));
+            return result;
+        }
         try {
-            MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
-            ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
-            DatabaseType protocolType = database.getProtocolType();
             processEngine.executeSQL(executionGroupContext, queryContext);
-            SQLStatementContext context = queryContext.getSqlStatementContext();
             return jdbcExecutor.execute(executionGroupContext,
                     ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys,
                             isExceptionThrown,
@@ -81,4 +94,25 @@ public final class ProxyJDBCExecutor {
             processEngine.completeSQLExecution(executionGroupContext.getReportContext().getProcessId());
         }
     }
+    
+    /*
+     * Groups of a query outside transaction are executed in completion order, so that the merge layer starts on the fast groups before the slow ones return.
+     * Exception must be thrown and storage types must be the same as protocol type, otherwise sane results are skipped out of the trunk thread.
+     */
+    private boolean isCompletionOrdered(final TemporaryConfigurationProperties temporaryProps, final ShardingSphereDatabase database, final SQLStatementContext sqlStatementContext,
+                                        final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final boolean isExceptionThrown) {
+        if (!temporaryProps.<Boolean>getValue(TemporaryConfigurationPropertyKey.PROXY_COMPLETION_ORDERED_EXECUTION_ENABLED) || !isExceptionThrown
+                || !(sqlStatementContext.getSqlStatement() instanceof SelectStatement) || executionGroupContext.getInputGroups().size() <= 1
+                || connectionSession.getTransactionStatus().isInTransaction()) {
+            return false;
+        }
+        for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit unit : each.getInputs()) {
+                if (!database.getProtocolType().equals(database.getResourceMetaData().getStorageUnits().get(unit.getExecutionUnit().getDataSourceName()).getStorageType())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
 }
@@ -19,11 +19,13 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -33,6 +35,7 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each connection session invoking.
  * This ensure XA transaction framework processed by current thread id.
+ * The occupied thread can be virtual thread, which keeps the same thread affinity without occupying an OS thread for each connection.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -55,13 +58,16 @@ public final class ConnectionThreadExecutorGroup {
      * Register connection.
      *
      * @param connectionId connection id
+     * @param virtualThreadEnabled whether occupy virtual thread for connection
      */
-    public void register(final int connectionId) {
-        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId));
+    public void register(final int connectionId, final boolean virtualThreadEnabled) {
+        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId, virtualThreadEnabled));
     }
     
-    private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+    private ExecutorService newSingleThreadExecutorService(final int connectionId, final boolean virtualThreadEnabled) {
+        String threadName = String.format("Connection-%d-ThreadExecutor", connectionId);
+        ThreadFactory threadFactory = virtualThreadEnabled ? ExecutorThreadFactoryBuilder.buildVirtual(threadName) : runnable -> new Thread(runnable, threadName);
+        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), threadFactory);
     }
     
     /**
@@ -22,6 +22,7 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.compression.SnappyFrameEncoder;
 import io.netty.util.AttributeKey;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.authority.model.ShardingSpherePrivileges;
@@ -34,13 +35,18 @@ import org.apache.shardingsphere.data.pipeline.cdc.generator.CDCResponseUtils;
 import org.apache.shardingsphere.data.pipeline.cdc.handler.CDCBackendHandler;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.AckStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CompressionType;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.DropStreamingRequestBody;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.BasicBody;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordEncoding;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StopStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamDataRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.ResponseCase;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.LoginResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ServerGreetingResult;
 import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
 import org.apache.shardingsphere.infra.autogen.version.ShardingSphereVersion;
@@ -143,13 +149,30 @@ public final class CDCChannelInboundHandler extends ChannelInboundHandlerAdapter
         AuthorityRule authorityRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(AuthorityRule.class);
         Optional<ShardingSphereUser> user = authorityRule.findUser(new Grantee(body.getUsername(), getHostAddress(ctx)));
         if (user.isPresent() && Objects.equals(Hashing.sha256().hashBytes(user.get().getPassword().getBytes()).toString().toUpperCase(), body.getPassword())) {
-            ctx.channel().attr(CONNECTION_CONTEXT_KEY).set(new CDCConnectionContext(user.get()));
-            ctx.writeAndFlush(CDCResponseUtils.succeed(request.getRequestId()));
+            CDCConnectionContext connectionContext = new CDCConnectionContext(user.get());
+            RecordEncoding recordEncoding = getRecordEncoding(request.getLoginRequestBody());
+            connectionContext.setRecordEncoding(recordEncoding);
+            ctx.channel().attr(CONNECTION_CONTEXT_KEY).set(connectionContext);
+            CompressionType compressionType = getCompressionType(request.getLoginRequestBody());
+            LoginResult loginResult = LoginResult.newBuilder().setCompressionType(compressionType).setRecordEncoding(recordEncoding).build();
+            ctx.writeAndFlush(CDCResponseUtils.succeed(request.getRequestId(), ResponseCase.LOGIN_RESULT, loginResult));
+            // The login response has been encoded already, so only the following responses are compressed.
+            if (CompressionType.SNAPPY == compressionType) {
+                ctx.pipeline().addFirst(new SnappyFrameEncoder());
+            }
         } else {
             throw new CDCExceptionWrapper(request.getRequestId(), new CDCLoginFailedException());
         }
     }
     
+    private CompressionType getCompressionType(final LoginRequestBody loginRequestBody) {
+        return CompressionType.SNAPPY == loginRequestBody.getCompressionType() ? CompressionType.SNAPPY : CompressionType.NONE;
+    }
+    
+    private RecordEncoding getRecordEncoding(final LoginRequestBody loginRequestBody) {
+        return RecordEncoding.COLUMNAR_BLOCK == loginRequestBody.getRecordEncoding() ? RecordEncoding.COLUMNAR_BLOCK : RecordEncoding.ROW;
+    }
+    
     private void checkPrivileges(final String requestId, final Grantee grantee, final String currentDatabase) {
         AuthorityRule authorityRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().findSingleRule(AuthorityRule.class)
                 .orElseThrow(() -> new CDCExceptionWrapper(requestId, new MissingRequiredRuleException("authority")));
@@ -19,6 +19,11 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -27,15 +32,25 @@ class ConnectionThreadExecutorGroupTest {
     @Test
     void assertRegister() {
         int connectionId = 1;
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, false);
         assertNotNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
     }
     
+    @Test
+    void assertRegisterWithVirtualThread() throws ExecutionException, InterruptedException {
+        int connectionId = 3;
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, true);
+        ExecutorService executorService = ConnectionThreadExecutorGroup.getInstance().get(connectionId);
+        Thread expected = executorService.submit(Thread::currentThread).get();
+        assertThat(executorService.submit(Thread::currentThread).get(), is(expected));
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+    }
+    
     @Test
     void assertUnregister() {
         int connectionId = 2;
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, false);
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
         assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
     }
@@ -19,13 +19,16 @@ package org.apache.shardingsphere.proxy.frontend.netty;
 
 import com.google.common.hash.Hashing;
 import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.SnappyFrameEncoder;
 import io.netty.handler.logging.LoggingHandler;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest.Builder;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest.Type;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CompressionType;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.BasicBody;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordEncoding;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
@@ -47,6 +50,8 @@ import java.util.Optional;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -117,5 +122,35 @@ class CDCChannelInboundHandlerTest {
         assertThat(expectedLoginResult.getStatus(), is(Status.SUCCEED));
         assertThat(expectedLoginResult.getErrorCode(), is(""));
         assertThat(expectedLoginResult.getErrorMessage(), is(""));
+        assertThat(expectedLoginResult.getLoginResult().getCompressionType(), is(CompressionType.NONE));
+        assertThat(expectedLoginResult.getLoginResult().getRecordEncoding(), is(RecordEncoding.ROW));
+        assertNull(channel.pipeline().get(SnappyFrameEncoder.class));
+    }
+    
+    @Test
+    void assertLoginRequestWithSnappyCompressionSucceed() {
+        String encryptPassword = Hashing.sha256().hashBytes("root".getBytes()).toString().toUpperCase();
+        Builder builder = CDCRequest.newBuilder().setType(Type.LOGIN).setLoginRequestBody(LoginRequestBody.newBuilder().setBasicBody(BasicBody.newBuilder().setUsername("root")
+                .setPassword(encryptPassword).build()).setCompressionType(CompressionType.SNAPPY).build());
+        channel.writeInbound(builder.build());
+        CDCResponse expectedGreetingResult = channel.readOutbound();
+        assertTrue(expectedGreetingResult.hasServerGreetingResult());
+        CDCResponse expectedLoginResult = channel.readOutbound();
+        assertThat(expectedLoginResult.getStatus(), is(Status.SUCCEED));
+        assertThat(expectedLoginResult.getLoginResult().getCompressionType(), is(CompressionType.SNAPPY));
+        assertNotNull(channel.pipeline().get(SnappyFrameEncoder.class));
+    }
+    
+    @Test
+    void assertLoginRequestWithColumnarBlockEncodingSucceed() {
+        String encryptPassword = Hashing.sha256().hashBytes("root".getBytes()).toString().toUpperCase();
+        Builder builder = CDCRequest.newBuilder().setType(Type.LOGIN).setLoginRequestBody(LoginRequestBody.newBuilder().setBasicBody(BasicBody.newBuilder().setUsername("root")
+                .setPassword(encryptPassword).build()).setRecordEncoding(RecordEncoding.COLUMNAR_BLOCK).build());
+        channel.writeInbound(builder.build());
+        CDCResponse expectedGreetingResult = channel.readOutbound();
+        assertTrue(expectedGreetingResult.hasServerGreetingResult());
+        CDCResponse expectedLoginResult = channel.readOutbound();
+        assertThat(expectedLoginResult.getStatus(), is(Status.SUCCEED));
+        assertThat(expectedLoginResult.getLoginResult().getRecordEncoding(), is(RecordEncoding.COLUMNAR_BLOCK));
     }
 }
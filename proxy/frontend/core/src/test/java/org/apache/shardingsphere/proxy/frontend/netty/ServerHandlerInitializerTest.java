@@ -19,28 +19,38 @@ package org.apache.shardingsphere.proxy.frontend.netty;
 
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
 import org.apache.shardingsphere.db.protocol.netty.ChannelAttrInitializer;
+import org.apache.shardingsphere.db.protocol.netty.PacketAggregationHandler;
 import org.apache.shardingsphere.db.protocol.netty.ProxyFlowControlHandler;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.mock.ConstructionMockSettings;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(AutoMockExtension.class)
 @ConstructionMockSettings(FrontendChannelInboundHandler.class)
+@StaticMockSettings(ProxyContext.class)
 class ServerHandlerInitializerTest {
     
     @Test
     void assertInitChannel() {
+        mockWriteBufferSize(0);
         SocketChannel channel = mock(SocketChannel.class);
         ChannelPipeline pipeline = mock(ChannelPipeline.class);
         when(channel.pipeline()).thenReturn(pipeline);
@@ -50,5 +60,24 @@ class ServerHandlerInitializerTest {
         verify(pipeline).addLast(any(FrontendChannelLimitationInboundHandler.class));
         verify(pipeline).addLast(eq(ProxyFlowControlHandler.class.getSimpleName()), any(ProxyFlowControlHandler.class));
         verify(pipeline).addLast(eq(FrontendChannelInboundHandler.class.getSimpleName()), any(FrontendChannelInboundHandler.class));
+        verify(pipeline, never()).addLast(any(PacketAggregationHandler.class));
+    }
+    
+    @Test
+    void assertInitChannelWithWriteBuffer() {
+        mockWriteBufferSize(8192);
+        SocketChannel channel = mock(SocketChannel.class);
+        ChannelPipeline pipeline = mock(ChannelPipeline.class);
+        when(channel.pipeline()).thenReturn(pipeline);
+        new ServerHandlerInitializer(TypedSPILoader.getService(DatabaseType.class, "FIXTURE")).initChannel(channel);
+        verify(pipeline).addLast(any(FlushConsolidationHandler.class));
+        verify(pipeline).addLast(any(PacketAggregationHandler.class));
+        verify(pipeline).addLast(any(PacketCodec.class));
+    }
+    
+    private void mockWriteBufferSize(final int writeBufferSize) {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_SIZE)).thenReturn(writeBufferSize);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
     }
 }
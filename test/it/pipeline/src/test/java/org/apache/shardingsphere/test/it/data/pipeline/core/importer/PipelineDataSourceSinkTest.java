@@ -45,6 +45,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -57,6 +58,8 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -148,6 +151,31 @@ class PipelineDataSourceSinkTest {
         inOrder.verify(preparedStatement).executeUpdate();
     }
     
+    @Test
+    void assertBatchUpdateDataRecords() throws SQLException {
+        DataRecord updateRecord1 = getUpdateDataRecord(1, 20);
+        DataRecord updateRecord2 = getUpdateDataRecord(2, 30);
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(mockRecords(updateRecord1, updateRecord2));
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1});
+        importer.run();
+        verify(connection).prepareStatement(any());
+        verify(preparedStatement).setObject(1, 20);
+        verify(preparedStatement).setObject(1, 30);
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
+        verify(preparedStatement, never()).executeUpdate();
+        verify(connection).commit();
+    }
+    
+    private DataRecord getUpdateDataRecord(final int id, final int user) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.UPDATE, TABLE_NAME, new IngestPlaceholderPosition(), 3);
+        result.addColumn(new Column("id", id, id, false, true));
+        result.addColumn(new Column("user", 10, user, true, false));
+        result.addColumn(new Column("status", null, PipelineSQLOperationType.UPDATE, true, false));
+        return result;
+    }
+    
     private DataRecord getUpdatePrimaryKeyDataRecord() {
         DataRecord result = new DataRecord(PipelineSQLOperationType.UPDATE, TABLE_NAME, new IngestPlaceholderPosition(), 3);
         result.addColumn(new Column("id", 1, 2, true, true));
@@ -156,9 +184,8 @@ class PipelineDataSourceSinkTest {
         return result;
     }
     
-    private List<Record> mockRecords(final DataRecord dataRecord) {
-        List<Record> result = new LinkedList<>();
-        result.add(dataRecord);
+    private List<Record> mockRecords(final DataRecord... dataRecords) {
+        List<Record> result = new LinkedList<>(Arrays.asList(dataRecords));
         result.add(new FinishedRecord(new IngestFinishedPosition()));
         return result;
     }
@@ -23,6 +23,8 @@ import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColum
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceWrapper;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.IntegerPrimaryKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.StringPrimaryKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.UnsupportedKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataUtils;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.StandardPipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.preparer.inventory.InventoryTaskSplitter;
@@ -44,8 +46,10 @@ import java.sql.Types;
 import java.util.Collections;
 import java.util.List;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class InventoryTaskSplitterTest {
@@ -114,6 +118,32 @@ class InventoryTaskSplitterTest {
         assertThat(keyPosition.getEndValue(), is(999L));
     }
     
+    @Test
+    void assertSplitInventoryDataWithStringPrimary() throws SQLException {
+        initStringPrimaryEnvironment(dumperContext.getCommonContext());
+        dumperContext.setUniqueKeyColumns(Collections.singletonList(new PipelineColumnMetaData(1, "order_id", Types.VARCHAR, "varchar", false, true, true)));
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(10));
+        StringPrimaryKeyIngestPosition firstPosition = (StringPrimaryKeyIngestPosition) actual.get(0).getTaskProgress().getPosition();
+        assertThat(firstPosition.getBeginValue(), is("k000"));
+        assertThat(firstPosition.getEndValue(), is("k009"));
+        StringPrimaryKeyIngestPosition lastPosition = (StringPrimaryKeyIngestPosition) actual.get(9).getTaskProgress().getPosition();
+        assertThat(lastPosition.getBeginValue(), is("k090"));
+        assertNull(lastPosition.getEndValue());
+    }
+    
+    @Test
+    void assertSplitInventoryDataWithStringLeadingMultipleColumnsKey() throws SQLException {
+        initStringLeadingUnionPrimaryEnvironment(dumperContext.getCommonContext());
+        try (PipelineDataSourceWrapper dataSource = dataSourceManager.getDataSource(dumperContext.getCommonContext().getDataSourceConfig())) {
+            List<PipelineColumnMetaData> uniqueKeyColumns = PipelineTableMetaDataUtils.getUniqueKeyColumns(null, "t_order", new StandardPipelineTableMetaDataLoader(dataSource));
+            dumperContext.setUniqueKeyColumns(uniqueKeyColumns);
+            List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+            assertThat(actual.size(), is(1));
+            assertThat(actual.get(0).getTaskProgress().getPosition(), instanceOf(UnsupportedKeyIngestPosition.class));
+        }
+    }
+    
     @Test
     void assertSplitInventoryDataWithoutPrimaryButWithUniqueIndex() throws SQLException {
         initUniqueIndexOnNotNullColumnEnvironment(dumperContext.getCommonContext());
@@ -177,6 +207,35 @@ class InventoryTaskSplitterTest {
         }
     }
     
+    private void initStringPrimaryEnvironment(final DumperCommonContext dumperContext) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperContext.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id VARCHAR(12) PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 99; i >= 0; i--) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES ('k%03d', 'x')", i));
+            }
+        }
+    }
+    
+    private void initStringLeadingUnionPrimaryEnvironment(final DumperCommonContext dumperContext) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperContext.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (user_id VARCHAR(12), order_id INT, PRIMARY KEY (user_id, order_id))");
+            for (int i = 1; i <= 15; i++) {
+                statement.execute(String.format("INSERT INTO t_order (user_id, order_id) VALUES ('a', %d)", i));
+            }
+            for (int i = 1; i <= 5; i++) {
+                statement.execute(String.format("INSERT INTO t_order (user_id, order_id) VALUES ('b', %d)", i));
+            }
+        }
+    }
+    
     private void initUnionPrimaryEnvironment(final DumperCommonContext dumperContext) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperContext.getDataSourceConfig());
         try (